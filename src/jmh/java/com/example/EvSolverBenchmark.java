@@ -0,0 +1,44 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvSolverBenchmark {
+  @Param({"0", "1", "5", "9"})
+  public int upcard;
+
+  @Param({"1-2", "0-6", "7-7", "9-5"})
+  public String cards;
+
+  private int[] ranks;
+  private PlayerHand playerHand;
+
+  @Setup
+  public void setUp() {
+    RoundEngine engine = new RoundEngine(new Rules(8, 1));
+    ranks = new int[]{32, 32, 32, 32, 32, 32, 32, 32, 32, 128};
+    playerHand = new PlayerHand(engine);
+    engine.getPlayerHands().add(playerHand);
+
+    for (String card : cards.split("-")) {
+      int value = Integer.parseInt(card);
+      playerHand.addCard(new Card(value, playerHand.cards.size()));
+      ranks[Math.min(value, 9)]--;
+    }
+
+    ranks[upcard]--;
+  }
+
+  @Benchmark
+  public EnumMap<Action, Double> solve() {
+    return new EvSolver(ranks, new Card(upcard, 0)).solve(playerHand);
+  }
+}
@@ -0,0 +1,61 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+  private static final int HANDS = 64;
+
+  @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+  public int numDecks;
+
+  @Param({"1", "2", "3", "4", "5", "6"})
+  public int deckType;
+
+  private PlayerHand[] hands;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    RoundEngine engine = new RoundEngine(new Rules(numDecks, deckType));
+    Shoe shoe = engine.getShoe();
+    hands = new PlayerHand[HANDS];
+
+    for (int i = 0; i < HANDS; i++) {
+      if (shoe.needToShuffle()) {
+        shoe.buildNewShoe(deckType);
+      }
+
+      hands[i] = new PlayerHand(engine);
+      hands[i].dealCards(2 + i % 3);
+    }
+  }
+
+  private PlayerHand nextHand() {
+    return hands[next++ & (HANDS - 1)];
+  }
+
+  @Benchmark
+  public int calculateValueSoft() {
+    return nextHand().calculateValue(CountMethod.SOFT, false);
+  }
+
+  @Benchmark
+  public int calculateValueHard() {
+    return nextHand().calculateValue(CountMethod.HARD, false);
+  }
+
+  @Benchmark
+  public boolean isDone() {
+    PlayerHand playerHand = nextHand();
+    playerHand.setPlayed(false);
+    return playerHand.isDone();
+  }
+}
@@ -0,0 +1,61 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+  @Param({"false", "true"})
+  public boolean journal;
+
+  private Path dir;
+  private HandJournal handJournal;
+  private RoundEngine engine;
+  private Decider decider;
+
+  @Setup
+  public void setUp() throws IOException {
+    engine = new RoundEngine(new Rules(6, 1), 1L);
+    decider = new BasicStrategy();
+
+    if (journal) {
+      dir = Files.createTempDirectory("journal");
+      handJournal = new HandJournal(dir);
+      engine.setJournal(handJournal);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    if (handJournal == null) {
+      return;
+    }
+
+    handJournal.close();
+
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public int play() {
+    engine.setMoney(10000);
+    engine.play(decider);
+
+    return engine.getMoney();
+  }
+}
@@ -0,0 +1,62 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayHandsBenchmark {
+  private static final int ROUNDS = 64;
+
+  @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+  public int numDecks;
+
+  @Param({"1", "2", "3", "4", "5", "6"})
+  public int deckType;
+
+  private RoundEngine[] rounds;
+  private int next;
+
+  private static class StandDecider implements Decider {
+    @Override
+    public boolean takeInsurance(RoundEngine engine) {
+      return false;
+    }
+
+    @Override
+    public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+      return Action.STAND;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    Decider decider = new StandDecider();
+    rounds = new RoundEngine[ROUNDS];
+
+    for (int i = 0; i < ROUNDS; i++) {
+      rounds[i] = new RoundEngine(new Rules(numDecks, deckType));
+      rounds[i].play(decider);
+    }
+  }
+
+  @Benchmark
+  public int payHands() {
+    RoundEngine engine = rounds[next++ & (ROUNDS - 1)];
+
+    for (PlayerHand playerHand : engine.getPlayerHands()) {
+      playerHand.setPaid(false);
+      playerHand.setBet(engine.getCurrentBet());
+    }
+
+    engine.setMoney(10000);
+    engine.payHands();
+
+    return engine.getMoney();
+  }
+}
@@ -0,0 +1,104 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+  @Param({"false", "true"})
+  public boolean diff;
+
+  private CountingStream bytes;
+  private ScriptedGame game;
+  private long rounds;
+
+  private static class CountingStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+
+  // Answers every prompt with the key basic strategy would press, through the same
+  // drawHands() and prompt path as an interactive player.
+  private static class ScriptedGame extends Game {
+    private final BasicStrategy strategy = new BasicStrategy();
+    private char key;
+
+    ScriptedGame(PrintStream out) {
+      super(new BufferedReader(new StringReader("")), out, null);
+    }
+
+    @Override
+    public boolean takeInsurance(RoundEngine engine) {
+      key = 'n';
+      return super.takeInsurance(engine);
+    }
+
+    @Override
+    public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+      switch (strategy.getAction(engine, playerHand)) {
+        case STAND:
+          key = 's';
+          break;
+        case DOUBLE:
+          key = 'd';
+          break;
+        case SPLIT:
+          key = 'p';
+          break;
+        default:
+          key = 'h';
+      }
+
+      return super.getAction(engine, playerHand);
+    }
+
+    @Override
+    public char getChar() {
+      getOut().flush();
+      return key;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    bytes = new CountingStream();
+    game = new ScriptedGame(new PrintStream(bytes, false, StandardCharsets.UTF_8));
+    game.setScreen(new TerminalRenderer(game.getOut(), diff));
+    rounds = 0;
+  }
+
+  @TearDown
+  public void tearDown() {
+    System.out.printf("%n%s: %.1f bytes per round%n", diff ? "diff" : "clear and redraw", bytes.count / (double) rounds);
+  }
+
+  @Benchmark
+  public GameState round() {
+    game.setMoney(10000);
+    game.step(GameState.DEAL);
+    game.key = 'd';
+    rounds++;
+
+    return game.step(GameState.BET_OPTIONS);
+  }
+}
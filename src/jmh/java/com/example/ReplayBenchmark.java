@@ -0,0 +1,63 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+  private static final int ROUNDS = 1000000;
+
+  @Param({"1", "6"})
+  public int numDecks;
+
+  private Path dir;
+  private HandReplay replay;
+
+  @Setup
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("replay");
+    RoundEngine engine = new RoundEngine(new Rules(numDecks, 1), 1L);
+    Decider decider = new BasicStrategy();
+
+    try (HandJournal journal = new HandJournal(dir)) {
+      engine.setJournal(journal);
+
+      for (int i = 0; i < ROUNDS; i++) {
+        engine.setMoney(10000);
+        engine.play(decider);
+      }
+    }
+
+    replay = new HandReplay(dir);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public int next() throws IOException {
+    if (!replay.next()) {
+      replay.seek(0);
+      replay.next();
+    }
+
+    return replay.getEngine().getMoney();
+  }
+}
@@ -0,0 +1,45 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoeBenchmark {
+  @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+  public int numDecks;
+
+  @Param({"1", "2", "3", "4", "5", "6"})
+  public int deckType;
+
+  private Shoe shoe;
+
+  @Setup
+  public void setUp() {
+    shoe = new RoundEngine(new Rules(numDecks, deckType)).getShoe();
+    shoe.buildNewShoe(deckType);
+  }
+
+  @Benchmark
+  public Card getNextCard() {
+    Card card = shoe.getNextCard();
+
+    if (card == null) {
+      shoe.buildNewShoe(deckType);
+      card = shoe.getNextCard();
+    }
+
+    return card;
+  }
+
+  @Benchmark
+  public Shoe buildNewShoe() {
+    shoe.buildNewShoe(deckType);
+    return shoe;
+  }
+}
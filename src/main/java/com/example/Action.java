@@ -0,0 +1,8 @@
+package com.example;
+
+public enum Action {
+  HIT,
+  STAND,
+  SPLIT,
+  DOUBLE
+}
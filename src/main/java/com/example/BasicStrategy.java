@@ -0,0 +1,88 @@
+package com.example;
+
+public class BasicStrategy implements Decider {
+  private static final byte H = 0;
+  private static final byte S = 1;
+  private static final byte D = 2;
+  private static final byte DS = 3;
+  private static final byte P = 4;
+
+  // Columns are the dealer upcard 2 3 4 5 6 7 8 9 T A. The dealer hits soft 17
+  // and only peeks for blackjack under an ace, so 11 and 8,8 are hit against a ten.
+  private static final byte[] HARD = compile(new String[]{
+      "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH",
+      "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH",
+      "HHHHHHHHHH", "HDDDDHHHHH", "DDDDDDDDHH", "DDDDDDDDHD",
+      "HHSSSHHHHH", "SSSSSHHHHH", "SSSSSHHHHH", "SSSSSHHHHH",
+      "SSSSSHHHHH", "SSSSSSSSSS", "SSSSSSSSSS", "SSSSSSSSSS",
+      "SSSSSSSSSS", "SSSSSSSSSS"
+  });
+
+  private static final byte[] SOFT = compile(new String[]{
+      "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH",
+      "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH",
+      "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH",
+      "HHHHHHHHHH", "HHHDDHHHHH", "HHHDDHHHHH", "HHDDDHHHHH",
+      "HHDDDHHHHH", "HDDDDHHHHH", "XXXXXSSHHH", "SSSSXSSSSS",
+      "SSSSSSSSSS", "SSSSSSSSSS"
+  });
+
+  // Rows are the pair rank A 2 3 4 5 6 7 8 9 T.
+  private static final byte[] PAIRS = compile(new String[]{
+      "PPPPPPPPPP", "PPPPPPHHHH", "PPPPPPHHHH", "HHHPPHHHHH",
+      "HHHHHHHHHH", "PPPPPHHHHH", "PPPPPPHHHH", "PPPPPPPPHP",
+      "PPPPPSPPSS", "SSSSSSSSSS"
+  });
+
+  private static byte[] compile(String[] rows) {
+    byte[] table = new byte[rows.length * 10];
+
+    for (int row = 0; row < rows.length; row++) {
+      for (int col = 0; col < 10; col++) {
+        table[row * 10 + col] = switch (rows[row].charAt(col)) {
+          case 'S' -> S;
+          case 'D' -> D;
+          case 'X' -> DS;
+          case 'P' -> P;
+          default -> H;
+        };
+      }
+    }
+
+    return table;
+  }
+
+  private static int column(Card upcard) {
+    int rank = upcard.rank();
+    return rank == 0 ? 9 : rank - 1;
+  }
+
+  @Override
+  public boolean takeInsurance(RoundEngine engine) {
+    return false;
+  }
+
+  @Override
+  public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+    int column = column(engine.getDealerHand().cards.get(0));
+
+    if (PAIRS[playerHand.cards.get(0).rank() * 10 + column] == P && playerHand.canSplit()) {
+      return Action.SPLIT;
+    }
+
+    int soft = playerHand.getValue(CountMethod.SOFT);
+    int hard = playerHand.getValue(CountMethod.HARD);
+    byte code = soft != hard ? SOFT[soft * 10 + column] : HARD[hard * 10 + column];
+
+    switch (code) {
+      case S:
+        return Action.STAND;
+      case D:
+        return playerHand.canDbl() ? Action.DOUBLE : Action.HIT;
+      case DS:
+        return playerHand.canDbl() ? Action.DOUBLE : Action.STAND;
+      default:
+        return Action.HIT;
+    }
+  }
+}
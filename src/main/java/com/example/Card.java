@@ -1,6 +1,6 @@
 package com.example;
 
-public record Card(int value, int suit) implements Cloneable {
+public record Card(int value, int suit) {
   public static final String[][] FACES = {
       {"A♠", "A♥", "A♣", "A♦"},
       {"2♠", "2♥", "2♣", "2♦"},
@@ -34,17 +34,38 @@ public record Card(int value, int suit) implements Cloneable {
       {"🂠", "", "", ""}
   };
 
-  Object superClone() throws CloneNotSupportedException {
-    return super.clone();
-  }
-  
-  @Override
-  public Card clone() {
-    try {
-      return (Card) superClone();
-    } catch (CloneNotSupportedException e) {
-      throw new AssertionError();
+  private static final Card[] CARDS = new Card[53];
+
+  static {
+    for (int value = 0; value < 13; value++) {
+      for (int suit = 0; suit < 4; suit++) {
+        CARDS[id(value, suit)] = new Card(value, suit);
+      }
     }
+
+    CARDS[52] = new Card(13, 0);
+  }
+
+  public static final Card HOLE = CARDS[52];
+
+  public static int id(int value, int suit) {
+    return (value << 2) | suit;
+  }
+
+  public static Card of(int id) {
+    return CARDS[id];
+  }
+
+  public static Card of(int value, int suit) {
+    return CARDS[id(value, suit)];
+  }
+
+  public int id() {
+    return id(value, suit);
+  }
+
+  public int rank() {
+    return Math.min(value, 9);
   }
 
   public boolean isAce() {
@@ -0,0 +1,67 @@
+package com.example;
+
+import java.util.Arrays;
+
+public class CardCounter {
+  private static final int CARDS_PER_DECK = 52;
+  private final CountSystem[] systems;
+  private final byte[] tags;
+  private final int[] runningCounts;
+  private int deckSize = CARDS_PER_DECK;
+
+  public CardCounter(CountSystem... systems) {
+    this.systems = systems.clone();
+    this.runningCounts = new int[systems.length];
+
+    // One row per Card.value() so a dealt card updates every system from adjacent bytes.
+    this.tags = new byte[13 * systems.length];
+
+    for (int value = 0; value < 13; value++) {
+      for (int i = 0; i < systems.length; i++) {
+        tags[value * systems.length + i] = (byte) systems[i].tag(Math.min(value, 9));
+      }
+    }
+  }
+
+  public int size() {
+    return systems.length;
+  }
+
+  public CountSystem getSystem(int system) {
+    return systems[system];
+  }
+
+  public void count(Card card, int seen) {
+    int row = card.value() * systems.length;
+
+    for (int i = 0; i < systems.length; i++) {
+      runningCounts[i] += seen * tags[row + i];
+    }
+  }
+
+  // Like the shoe's, the true count is per deck of the composition being dealt.
+  public void reset(int deckSize) {
+    this.deckSize = deckSize;
+    Arrays.fill(runningCounts, 0);
+  }
+
+  public int getRunningCount(int system) {
+    return runningCounts[system];
+  }
+
+  public double getTrueCount(int system, int remainingCards) {
+    if (remainingCards == 0) {
+      return runningCounts[system];
+    }
+
+    return runningCounts[system] * deckSize / (double) remainingCards;
+  }
+
+  public double getBettingCount(int system, int remainingCards) {
+    if (systems[system].isBalanced()) {
+      return getTrueCount(system, remainingCards);
+    }
+
+    return runningCounts[system];
+  }
+}
@@ -0,0 +1,225 @@
+package com.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+public class Composition {
+  public static final int CUSTOM = 0;
+  public static final int MAX_COUNT = 255;
+  static final int CUSTOM_CACHE_SIZE = 32;
+  private static final String VALUES = "A23456789TJQK";
+  private static final int CARDS_PER_DECK = 52;
+  private static final Composition[] DECK_TYPES = {
+      builtIn(1, new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}),
+      builtIn(2, new int[] {0}),
+      builtIn(3, new int[] {10}),
+      builtIn(4, new int[] {0, 10}),
+      builtIn(5, new int[] {6}),
+      builtIn(6, new int[] {7})
+  };
+  // Specs come from players, so only the most recent ones keep their templates around.
+  private static final Map<String, Composition> CUSTOM_CACHE = Collections.synchronizedMap(new LruCache<>(CUSTOM_CACHE_SIZE));
+  private final int deckType;
+  private final int[] pattern;
+  private final int deckSize;
+  private final int[] counts = new int[13];
+  private final int[] ranks = new int[10];
+  private final Template[] templates = new Template[Shoe.MAX_TABLE_DECKS];
+
+  // The unshuffled cards of one deck count, built once and only ever copied.
+  record Template(int[] cards, int[] ranks) {
+  }
+
+  static {
+    for (Composition composition : DECK_TYPES) {
+      for (int numDecks = 1; numDecks <= Shoe.MAX_TABLE_DECKS; numDecks++) {
+        composition.template(numDecks);
+      }
+    }
+  }
+
+  // A shoe of n decks is the first n * deckSize cards of the pattern repeated.
+  private Composition(int deckType, int[] pattern, int deckSize) {
+    this.deckType = deckType;
+    this.pattern = pattern;
+    this.deckSize = deckSize;
+
+    for (int i = 0; i < deckSize; i++) {
+      Card card = Card.of(pattern[i % pattern.length]);
+      counts[card.value()]++;
+      ranks[card.rank()]++;
+    }
+  }
+
+  private static Composition builtIn(int deckType, int[] values) {
+    int[] pattern = new int[4 * values.length];
+    int size = 0;
+
+    for (int suit = 0; suit < 4; suit++) {
+      for (int value : values) {
+        pattern[size++] = Card.id(value, suit);
+      }
+    }
+
+    return new Composition(deckType, pattern, CARDS_PER_DECK);
+  }
+
+  public static Composition of(int deckType) {
+    return DECK_TYPES[deckType >= 2 && deckType <= 6 ? deckType - 1 : 0];
+  }
+
+  // Counts are per deck and per card value, ace first; recently used counts give the same instance.
+  public static Composition of(int[] counts) {
+    if (counts.length != 13) {
+      throw new IllegalArgumentException("A composition needs a count for each of the 13 card values");
+    }
+
+    int deckSize = 0;
+
+    for (int value = 0; value < 13; value++) {
+      if (counts[value] < 0 || counts[value] > MAX_COUNT) {
+        throw new IllegalArgumentException("Card count out of range: " + counts[value]);
+      }
+
+      deckSize += counts[value];
+    }
+
+    if (deckSize == 0) {
+      throw new IllegalArgumentException("A composition needs at least one card");
+    }
+
+    int size = deckSize;
+    int[] copy = counts.clone();
+
+    return CUSTOM_CACHE.computeIfAbsent(spec(counts), key -> {
+      int[] pattern = new int[size];
+      int p = 0;
+
+      for (int value = 0; value < 13; value++) {
+        for (int i = 0; i < copy[value]; i++) {
+          pattern[p++] = Card.id(value, i % 4);
+        }
+      }
+
+      return new Composition(CUSTOM, pattern, size);
+    });
+  }
+
+  // Terms apply in order to a regular deck: "5=0" or "-5" removes the fives, "A=8" doubles the
+  // aces and "*=0" empties the deck, so "*=0,A=26,J=26" is a deck of only aces and jacks.
+  public static Composition parse(String spec) {
+    int[] counts = new int[13];
+    Arrays.fill(counts, 4);
+
+    for (String term : spec.trim().split("[,\\s]+")) {
+      if (term.isEmpty()) {
+        continue;
+      }
+
+      if (term.startsWith("-")) {
+        set(counts, term.substring(1), 0);
+        continue;
+      }
+
+      int equals = term.indexOf('=');
+
+      if (equals < 0) {
+        throw new IllegalArgumentException("Expected value=count or -value: " + term);
+      }
+
+      set(counts, term.substring(0, equals), Integer.parseInt(term.substring(equals + 1)));
+    }
+
+    return of(counts);
+  }
+
+  private static String spec(int[] counts) {
+    StringBuilder spec = new StringBuilder();
+
+    for (int value = 0; value < 13; value++) {
+      spec.append(value == 0 ? "" : ",").append(VALUES.charAt(value)).append('=').append(counts[value]);
+    }
+
+    return spec.toString();
+  }
+
+  private static void set(int[] counts, String key, int count) {
+    if (key.equals("*")) {
+      Arrays.fill(counts, count);
+      return;
+    }
+
+    int value = key.length() == 1 ? VALUES.indexOf(Character.toUpperCase(key.charAt(0))) : -1;
+
+    if (value < 0) {
+      throw new IllegalArgumentException("Unknown card value: " + key);
+    }
+
+    counts[value] = count;
+  }
+
+  public int getDeckType() {
+    return deckType;
+  }
+
+  public int getDeckSize() {
+    return deckSize;
+  }
+
+  public int getCount(int value) {
+    return counts[value];
+  }
+
+  public int getRankCount(int rank) {
+    return ranks[rank];
+  }
+
+  public boolean isCustom() {
+    return deckType == CUSTOM;
+  }
+
+  Template template(int numDecks) {
+    if (numDecks < 1 || numDecks > templates.length) {
+      return compose(numDecks);
+    }
+
+    // Racing threads can only build identical templates, so whichever lands last is as good.
+    Template template = templates[numDecks - 1];
+
+    if (template == null) {
+      template = compose(numDecks);
+      templates[numDecks - 1] = template;
+    }
+
+    return template;
+  }
+
+  private Template compose(int numDecks) {
+    int[] cards = new int[numDecks * deckSize];
+    int[] shoeRanks = new int[10];
+
+    for (int i = 0; i < cards.length; i++) {
+      cards[i] = pattern[i % pattern.length];
+      shoeRanks[Card.of(cards[i]).rank()]++;
+    }
+
+    return new Template(cards, shoeRanks);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Composition composition && deckType == composition.deckType && Arrays.equals(counts, composition.counts);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * deckType + Arrays.hashCode(counts);
+  }
+
+  // The per-value counts; for a custom composition this parses back to an equal one.
+  @Override
+  public String toString() {
+    return spec(counts);
+  }
+}
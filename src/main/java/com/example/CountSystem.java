@@ -0,0 +1,25 @@
+package com.example;
+
+public enum CountSystem {
+  HI_LO(true, -1, 1, 1, 1, 1, 1, 0, 0, 0, -1),
+  KO(false, -1, 1, 1, 1, 1, 1, 1, 0, 0, -1),
+  HI_OPT_II(true, 0, 1, 1, 2, 2, 1, 1, 0, 0, -2),
+  OMEGA_II(true, 0, 1, 1, 2, 2, 2, 1, 0, -1, -2),
+  ZEN(true, -1, 1, 1, 2, 2, 2, 1, 0, 0, -2);
+
+  private final boolean balanced;
+  private final int[] tags;
+
+  CountSystem(boolean balanced, int... tags) {
+    this.balanced = balanced;
+    this.tags = tags;
+  }
+
+  public boolean isBalanced() {
+    return balanced;
+  }
+
+  public int tag(int rank) {
+    return tags[rank];
+  }
+}
@@ -0,0 +1,104 @@
+package com.example;
+
+import java.util.random.RandomGenerator;
+
+// Keeps only how many cards of each rank are left, so the shoe takes the same memory whatever its size.
+public class CountedShoe extends Shoe {
+  private final int[] undealt = new int[10];
+  private int undealtCards;
+  private Composition composition = Composition.of(1);
+
+  public CountedShoe(RoundEngine engine, RandomGenerator random) {
+    super(engine, random);
+  }
+
+  public boolean isInfinite() {
+    return engine.getNumDecks() == Rules.INFINITE_DECKS;
+  }
+
+  @Override
+  public boolean needToShuffle() {
+    if (isInfinite()) {
+      return undealtCards == 0;
+    }
+
+    return super.needToShuffle();
+  }
+
+  @Override
+  public int getCut() {
+    return isInfinite() ? Integer.MAX_VALUE : super.getCut();
+  }
+
+  // Draws come straight from the table's generator, so a counted shoe has no seed of its own. An
+  // infinite shoe holds one deck's worth of counts and never takes a card out of them.
+  @Override
+  public void buildNewShoe(int deckType) {
+    int numDecks = isInfinite() ? 1 : engine.getNumDecks();
+    composition = composition(deckType);
+    undealtCards = 0;
+
+    for (int rank = 0; rank < undealt.length; rank++) {
+      undealt[rank] = composition.getRankCount(rank) * numDecks;
+      undealtCards += undealt[rank];
+    }
+
+    reset(0, undealtCards, undealt, composition.getDeckSize());
+  }
+
+  @Override
+  public Card getNextCard() {
+    if (undealtCards == 0) {
+      return null;
+    }
+
+    int pick = random.nextInt(undealtCards);
+    int rank = 0;
+
+    while (pick >= undealt[rank]) {
+      pick -= undealt[rank++];
+    }
+
+    Card card = Card.of(rank == 9 ? tenValue() : rank, random.nextInt(4));
+
+    if (!isInfinite()) {
+      position++;
+      undealt[rank]--;
+      undealtCards--;
+      count(card, 1);
+    }
+
+    return card;
+  }
+
+  // Tens, jacks, queens and kings share a rank, so the face is picked in the composition's proportions.
+  private int tenValue() {
+    int pick = random.nextInt(composition.getRankCount(9));
+    int value = 9;
+
+    while (pick >= composition.getCount(value)) {
+      pick -= composition.getCount(value++);
+    }
+
+    return value;
+  }
+
+  @Override
+  public void hideCard(Card card) {
+    if (!isInfinite()) {
+      super.hideCard(card);
+    }
+  }
+
+  @Override
+  public void revealCard(Card card) {
+    if (!isInfinite()) {
+      super.revealCard(card);
+    }
+  }
+
+  @Override
+  public int getTotalCards() {
+    return isInfinite() ? Integer.MAX_VALUE : size;
+  }
+}
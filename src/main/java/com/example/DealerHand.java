@@ -2,16 +2,40 @@ package com.example;
 
 public class DealerHand extends Hand {
   private boolean hideDownCard;
+  private boolean downCardHidden;
 
-  public DealerHand(Game game) {
-    super(game);
+  public DealerHand(RoundEngine engine) {
+    super(engine);
     this.hideDownCard = true;
+    this.downCardHidden = false;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    hideDownCard = true;
+    downCardHidden = false;
   }
 
   public void setHideDownCard(boolean hideDownCard) {
+    if (!hideDownCard && downCardHidden) {
+      downCardHidden = false;
+      engine.getShoe().revealCard(cards.get(1));
+    }
+
     this.hideDownCard = hideDownCard;
   }
 
+  @Override
+  public void dealCard() {
+    super.dealCard();
+
+    if (hideDownCard && cards.size() == 2) {
+      downCardHidden = true;
+      engine.getShoe().hideCard(cards.get(1));
+    }
+  }
+
   public boolean isBusted() {
     return getValue(CountMethod.SOFT) > 21;
   }
@@ -22,20 +46,20 @@ public class DealerHand extends Hand {
 
   @Override
   public String toString() {
-    StringBuilder out = new StringBuilder(" ");
+    FrameBuffer frame = new FrameBuffer(256);
+    frame.setFaceType(engine.getFaceType());
+    draw(frame);
+    return frame.toString();
+  }
+
+  public void draw(FrameBuffer frame) {
+    frame.append((byte) ' ');
 
     for (int i = 0; i < cards.size(); i++) {
-      if (i == 1 && hideDownCard) {
-        out.append(game.cardFace(13, 0)).append(" ");
-      } else {
-        Card c = cards.get(i);
-        out.append(game.cardFace(c.value(), c.suit())).append(" ");
-      }
+      frame.appendCard((i == 1 && hideDownCard) ? Card.HOLE : cards.get(i)).append((byte) ' ');
     }
 
-    out.append(" ⇒  ").append(getValue(CountMethod.SOFT));
-    out.append("\n");
-    return out.toString();
+    frame.append(" ⇒  ").appendInt(getValue(CountMethod.SOFT)).append((byte) '\n');
   }
 
   public boolean upcardIsAce() {
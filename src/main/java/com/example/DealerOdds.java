@@ -0,0 +1,203 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+public class DealerOdds {
+  public static final int BUST = 5;
+  private static final DrawTree[] TREES = new DrawTree[10];
+  private final int[] ranks;
+  private final int total;
+  private final double[][] cache = new double[20][];
+
+  static {
+    for (int upcard = 0; upcard < 10; upcard++) {
+      TREES[upcard] = new DrawTree(upcard);
+    }
+  }
+
+  public DealerOdds(Shoe shoe) {
+    this(shoe.getRemainingRanks());
+  }
+
+  public DealerOdds(int[] ranks) {
+    this.ranks = ranks.clone();
+
+    int total = 0;
+    for (int count : ranks) {
+      total += count;
+    }
+    this.total = total;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public int getRank(int rank) {
+    return ranks[rank];
+  }
+
+  public double[] outcomes(Card upcard) {
+    return outcomes(upcard.rank(), upcard.isAce());
+  }
+
+  public double[] outcomes(int upcard) {
+    return outcomes(upcard, false);
+  }
+
+  public double[] outcomes(int upcard, boolean noBlackjack) {
+    int slot = upcard * 2 + (noBlackjack ? 1 : 0);
+
+    if (cache[slot] == null) {
+      cache[slot] = TREES[upcard].evaluate(ranks, total, noBlackjack);
+    }
+
+    return cache[slot].clone();
+  }
+
+  // Every multiset of cards the dealer can stop on, with the number of draw orders that
+  // reach it under the playDealerHand() rule, laid out as a depth-first trie over sorted ranks.
+  private static class DrawTree {
+    private final int[] rank;
+    private final int[] repeat;
+    private final int[] depth;
+    private final int[] skip;
+    private final int[] outcome;
+    private final int[] orders;
+    private final int blackjack;
+    private final int maxDepth;
+
+    DrawTree(int upcard) {
+      HashMap<Long, int[]> stops = new HashMap<>();
+      draw(stops, 0L, upcard + 1, upcard == 0);
+
+      ArrayList<long[]> nodes = new ArrayList<>();
+      addNodes(nodes, prefixes(stops), 0L, 0, 0);
+
+      int size = nodes.size();
+      rank = new int[size];
+      repeat = new int[size];
+      depth = new int[size];
+      skip = new int[size];
+      outcome = new int[size];
+      orders = new int[size];
+
+      int blackjack = -1;
+      int maxDepth = 0;
+
+      for (int i = 0; i < size; i++) {
+        long[] node = nodes.get(i);
+        rank[i] = (int) node[1];
+        depth[i] = (int) node[2];
+        repeat[i] = (int) (node[0] >>> (rank[i] * 4) & 15);
+        skip[i] = (int) node[3];
+
+        int[] stop = stops.get(node[0]);
+        outcome[i] = stop == null ? -1 : stop[0];
+        orders[i] = stop == null ? 0 : stop[1];
+        maxDepth = Math.max(maxDepth, depth[i]);
+
+        if (depth[i] == 1 && outcome[i] == 4 && (upcard == 0 || upcard == 9)) {
+          blackjack = i;
+        }
+      }
+
+      this.blackjack = blackjack;
+      this.maxDepth = maxDepth;
+    }
+
+    private static void draw(HashMap<Long, int[]> stops, long drawn, int hard, boolean ace) {
+      int soft = ace && hard < 12 ? hard + 10 : hard;
+
+      if (soft < 18 && hard < 17) {
+        for (int rank = 0; rank < 10; rank++) {
+          draw(stops, drawn + (1L << (rank * 4)), hard + rank + 1, ace || rank == 0);
+        }
+      } else if (hard <= 21) {
+        stops.computeIfAbsent(drawn, key -> new int[]{soft - 17, 0})[1]++;
+      }
+    }
+
+    private static HashSet<Long> prefixes(HashMap<Long, int[]> stops) {
+      HashSet<Long> prefixes = new HashSet<>();
+
+      for (long stop : stops.keySet()) {
+        long prefix = 0L;
+
+        for (int rank = 0; rank < 10; rank++) {
+          for (long n = stop >>> (rank * 4) & 15; n > 0; n--) {
+            prefix += 1L << (rank * 4);
+            prefixes.add(prefix);
+          }
+        }
+      }
+
+      return prefixes;
+    }
+
+    private static void addNodes(ArrayList<long[]> nodes, HashSet<Long> prefixes, long drawn, int minRank, int depth) {
+      for (int rank = minRank; rank < 10; rank++) {
+        long next = drawn + (1L << (rank * 4));
+
+        if (!prefixes.contains(next)) {
+          continue;
+        }
+
+        long[] node = new long[]{next, rank, depth + 1, 0};
+        nodes.add(node);
+        addNodes(nodes, prefixes, next, rank, depth + 1);
+        node[3] = nodes.size();
+      }
+    }
+
+    double[] evaluate(int[] ranks, int total, boolean noBlackjack) {
+      double[] products = new double[maxDepth + 1];
+      double[] inverse = new double[maxDepth + 1];
+      double[] result = new double[6];
+
+      products[0] = 1.0;
+      inverse[0] = 1.0;
+
+      for (int d = 1; d <= maxDepth; d++) {
+        inverse[d] = total - d + 1 > 0 ? inverse[d - 1] / (total - d + 1) : 0.0;
+      }
+
+      for (int i = 0; i < rank.length; ) {
+        int d = depth[i];
+        double product = products[d - 1] * (ranks[rank[i]] - repeat[i] + 1);
+
+        if (product <= 0) {
+          i = skip[i];
+          continue;
+        }
+
+        products[d] = product;
+
+        if (outcome[i] >= 0 && !(noBlackjack && i == blackjack)) {
+          result[outcome[i]] += orders[i] * product * inverse[d];
+        }
+
+        i++;
+      }
+
+      double scale = 1.0;
+
+      if (noBlackjack && blackjack >= 0) {
+        scale = (double) total / (total - ranks[rank[blackjack]]);
+      }
+
+      // Whatever does not finish on 17 to 21 busts, including draws that run the composition dry.
+      double bust = 1.0;
+
+      for (int i = 0; i < BUST; i++) {
+        result[i] *= scale;
+        bust -= result[i];
+      }
+
+      result[BUST] = Math.max(bust, 0.0);
+      return result;
+    }
+  }
+}
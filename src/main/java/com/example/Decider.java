@@ -0,0 +1,7 @@
+package com.example;
+
+public interface Decider {
+  boolean takeInsurance(RoundEngine engine);
+
+  Action getAction(RoundEngine engine, PlayerHand playerHand);
+}
@@ -0,0 +1,267 @@
+package com.example;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public class EvSolver {
+  private static final int BITS = 5;
+  private static final long MASK = (1L << BITS) - 1;
+  private static final int SHARED_BITS = 12;
+  private static final int SHARED_DEALER_SIZE = 1 << 15;
+  // Dealer outcomes only depend on the cards left, so every solver shares them: the next query
+  // from the same shoe reaches most of the compositions an earlier one already evaluated.
+  private static final Map<DealerKey, double[]> SHARED_DEALER = Collections.synchronizedMap(new LruCache<>(SHARED_DEALER_SIZE));
+  private final int[] ranks;
+  private final int total;
+  private final int upcard;
+  private final boolean peeked;
+  private final HashMap<Long, double[]> dealer = new HashMap<>();
+  private final HashMap<Long, Double> hits = new HashMap<>();
+
+  record DealerKey(long low, long high, int upcard) {
+  }
+
+  public EvSolver(int[] ranks, Card upcard) {
+    this.ranks = ranks.clone();
+    this.upcard = upcard.rank();
+    this.peeked = upcard.isAce();
+
+    int total = 0;
+    for (int count : ranks) {
+      total += count;
+    }
+    this.total = total;
+  }
+
+  public static EvSolver of(RoundEngine engine) {
+    return new EvSolver(engine.getShoe().getRemainingRanks(), engine.getDealerHand().cards.get(0));
+  }
+
+  public EnumMap<Action, Double> solve(PlayerHand playerHand) {
+    EnumMap<Action, Double> values = new EnumMap<>(Action.class);
+    int hard = playerHand.getValue(CountMethod.HARD);
+    boolean ace = false;
+
+    for (Card card : playerHand.getCards()) {
+      ace |= card.isAce();
+    }
+
+    values.put(Action.STAND, stand(0L, soft(hard, ace), false));
+
+    if (hard >= 21 || soft(hard, ace) == 21) {
+      return values;
+    }
+
+    values.put(Action.HIT, hit(0L, 0, hard, ace));
+
+    if (playerHand.canDbl()) {
+      values.put(Action.DOUBLE, dbl(0L, hard, ace));
+    }
+
+    if (playerHand.canSplit()) {
+      int hands = playerHand.engine.getPlayerHands().size() + 1;
+      values.put(Action.SPLIT, split(playerHand.getCards().get(0).rank(), hands));
+    }
+
+    return values;
+  }
+
+  private static int soft(int hard, boolean ace) {
+    return ace && hard < 12 ? hard + 10 : hard;
+  }
+
+  private int left(long drawn, int rank) {
+    return ranks[rank] - (int) (drawn >>> (rank * BITS) & MASK);
+  }
+
+  private int left(long drawn) {
+    int count = 0;
+
+    for (int rank = 0; rank < 10; rank++) {
+      count += (int) (drawn >>> (rank * BITS) & MASK);
+    }
+
+    return total - count;
+  }
+
+  private double[] dealer(long drawn) {
+    double[] outcomes = dealer.get(drawn);
+
+    if (outcomes == null) {
+      int[] remaining = new int[10];
+
+      for (int rank = 0; rank < 10; rank++) {
+        remaining[rank] = left(drawn, rank);
+      }
+
+      DealerKey key = sharedKey(remaining);
+      outcomes = key == null ? null : SHARED_DEALER.get(key);
+
+      if (outcomes == null) {
+        outcomes = new DealerOdds(remaining).outcomes(upcard, peeked);
+
+        if (key != null) {
+          SHARED_DEALER.put(key, outcomes);
+        }
+      }
+
+      dealer.put(drawn, outcomes);
+    }
+
+    return outcomes;
+  }
+
+  // Null when a count is too large to pack, as in a shoe of many decks.
+  private DealerKey sharedKey(int[] remaining) {
+    long[] packed = new long[2];
+
+    for (int rank = 0; rank < 10; rank++) {
+      if (remaining[rank] >= 1 << SHARED_BITS) {
+        return null;
+      }
+
+      packed[rank / 5] |= (long) remaining[rank] << (rank % 5 * SHARED_BITS);
+    }
+
+    return new DealerKey(packed[0], packed[1], upcard * 2 + (peeked ? 1 : 0));
+  }
+
+  private double stand(long drawn, int value, boolean blackjack) {
+    if (value > 21) {
+      return -1.0;
+    }
+
+    double[] outcomes = dealer(drawn);
+    double win = blackjack ? 1.5 : 1.0;
+    double ev = win * outcomes[DealerOdds.BUST];
+
+    for (int i = 0; i < DealerOdds.BUST; i++) {
+      if (17 + i < value) {
+        ev += win * outcomes[i];
+      } else if (17 + i > value) {
+        ev -= outcomes[i];
+      }
+    }
+
+    return ev;
+  }
+
+  private double best(long drawn, int base, int hard, boolean ace) {
+    int value = soft(hard, ace);
+
+    if (value >= 21) {
+      return stand(drawn, value, false);
+    }
+
+    return Math.max(stand(drawn, value, false), hit(drawn, base, hard, ace));
+  }
+
+  private double hit(long drawn, int base, int hard, boolean ace) {
+    // The drawn cards alone do not say what the hand started from, so the key also carries its total.
+    Long key = drawn | (long) base << (10 * BITS) | (long) hard << (10 * BITS + 4) | (ace ? 1L << (10 * BITS + 9) : 0L);
+    Double cached = hits.get(key);
+
+    if (cached != null) {
+      return cached;
+    }
+
+    int left = left(drawn);
+    double ev = 0.0;
+
+    for (int rank = 0; rank < 10; rank++) {
+      int count = left(drawn, rank);
+
+      if (count == 0) {
+        continue;
+      }
+
+      long next = drawn + (1L << (rank * BITS));
+      int nextHard = hard + rank + 1;
+      ev += (double) count / left * (nextHard > 21 ? -1.0 : best(next, base, nextHard, ace || rank == 0));
+    }
+
+    hits.put(key, ev);
+    return ev;
+  }
+
+  private double dbl(long drawn, int hard, boolean ace) {
+    int left = left(drawn);
+    double ev = 0.0;
+
+    for (int rank = 0; rank < 10; rank++) {
+      int count = left(drawn, rank);
+
+      if (count > 0) {
+        int nextHard = hard + rank + 1;
+        ev += (double) count / left * stand(drawn + (1L << (rank * BITS)), soft(nextHard, ace || rank == 0), false);
+      }
+    }
+
+    return 2.0 * ev;
+  }
+
+  private double splitHand(int pair, int rank) {
+    long drawn = 1L << (rank * BITS);
+    int hard = pair + rank + 2;
+    boolean ace = pair == 0 || rank == 0;
+    int value = soft(hard, ace);
+
+    if (value == 21) {
+      return stand(drawn, value, true);
+    }
+
+    double ev = Math.max(stand(drawn, value, false), hit(drawn, pair + 1, hard, ace));
+    return Math.max(ev, dbl(drawn, hard, ace));
+  }
+
+  // Each split hand is valued as a fresh draw from the shoe left after the pair, with the same
+  // chance of pairing again on every draw; ten-valued pairs only resplit on the same face, taken
+  // as a quarter of the remaining tens. The dealer is always assumed to play out. RoundEngine
+  // skips the dealer when every hand is a blackjack or bust, and then a split blackjack also wins
+  // where the dealer would have drawn to 21, so split aces and tens come out slightly low.
+  private double split(int pair, int hands) {
+    int left = left(0L);
+    double same = (double) ranks[pair] / left;
+    double other = 0.0;
+
+    if (pair == 9) {
+      same /= 4;
+    }
+
+    for (int rank = 0; rank < 10; rank++) {
+      double p = (double) ranks[rank] / left - (rank == pair ? same : 0.0);
+
+      if (p > 0) {
+        other += p * splitHand(pair, rank);
+      }
+    }
+
+    other /= 1.0 - same;
+    double paired = same > 0 ? splitHand(pair, pair) : 0.0;
+
+    return resplit(2, hands, same, other, paired, new Double[RoundEngine.MAX_PLAYER_HANDS + 2][RoundEngine.MAX_PLAYER_HANDS + 1]);
+  }
+
+  private double resplit(int pending, int hands, double same, double other, double paired, Double[][] memo) {
+    if (pending == 0) {
+      return 0.0;
+    }
+
+    if (memo[pending][hands] != null) {
+      return memo[pending][hands];
+    }
+
+    double ev = (1.0 - same) * (other + resplit(pending - 1, hands, same, other, paired, memo));
+
+    if (hands < RoundEngine.MAX_PLAYER_HANDS) {
+      ev += same * resplit(pending + 1, hands + 1, same, other, paired, memo);
+    } else {
+      ev += same * (paired + resplit(pending - 1, hands, same, other, paired, memo));
+    }
+
+    memo[pending][hands] = ev;
+    return ev;
+  }
+}
@@ -0,0 +1,156 @@
+package com.example;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class FrameBuffer {
+  private static final byte[][][] GLYPHS = new byte[2][53][];
+  private byte[] bytes;
+  private int length;
+  private int faceType;
+
+  static {
+    for (int id = 0; id < 53; id++) {
+      Card card = Card.of(id);
+      GLYPHS[0][id] = Card.FACES[card.value()][card.suit()].getBytes(StandardCharsets.UTF_8);
+      GLYPHS[1][id] = Card.FACES2[card.value()][card.suit()].getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  public FrameBuffer() {
+    this(1024);
+  }
+
+  public FrameBuffer(int capacity) {
+    this.bytes = new byte[capacity];
+    this.length = 0;
+    this.faceType = 1;
+  }
+
+  public int getFaceType() {
+    return faceType;
+  }
+
+  public void setFaceType(int faceType) {
+    this.faceType = faceType;
+  }
+
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  public void reset() {
+    length = 0;
+  }
+
+  private void ensure(int extra) {
+    if (length + extra > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+    }
+  }
+
+  public FrameBuffer append(byte[] source, int offset, int count) {
+    ensure(count);
+    System.arraycopy(source, offset, bytes, length, count);
+    length += count;
+    return this;
+  }
+
+  public FrameBuffer append(byte b) {
+    ensure(1);
+    bytes[length++] = b;
+    return this;
+  }
+
+  // Encodes straight into the buffer so that literals never go through a String encoder.
+  public FrameBuffer append(CharSequence text) {
+    ensure(text.length() * 3);
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+
+      if (c < 0x80) {
+        bytes[length++] = (byte) c;
+      } else if (c < 0x800) {
+        bytes[length++] = (byte) (0xc0 | c >> 6);
+        bytes[length++] = (byte) (0x80 | c & 0x3f);
+      } else if (Character.isHighSurrogate(c) && i + 1 < text.length()) {
+        int cp = Character.toCodePoint(c, text.charAt(++i));
+        bytes[length++] = (byte) (0xf0 | cp >> 18);
+        bytes[length++] = (byte) (0x80 | cp >> 12 & 0x3f);
+        bytes[length++] = (byte) (0x80 | cp >> 6 & 0x3f);
+        bytes[length++] = (byte) (0x80 | cp & 0x3f);
+      } else {
+        bytes[length++] = (byte) (0xe0 | c >> 12);
+        bytes[length++] = (byte) (0x80 | c >> 6 & 0x3f);
+        bytes[length++] = (byte) (0x80 | c & 0x3f);
+      }
+    }
+
+    return this;
+  }
+
+  public FrameBuffer appendCard(Card card) {
+    byte[] glyph = GLYPHS[faceType == 2 ? 1 : 0][card.id()];
+    return append(glyph, 0, glyph.length);
+  }
+
+  // Works on a long, since negating Integer.MIN_VALUE as an int overflows.
+  public FrameBuffer appendInt(int value) {
+    ensure(11);
+    long digits = value;
+
+    if (digits < 0) {
+      bytes[length++] = '-';
+      digits = -digits;
+    }
+
+    int start = length;
+
+    do {
+      bytes[length++] = (byte) ('0' + digits % 10);
+      digits /= 10;
+    } while (digits > 0);
+
+    for (int i = start, j = length - 1; i < j; i++, j--) {
+      byte b = bytes[i];
+      bytes[i] = bytes[j];
+      bytes[j] = b;
+    }
+
+    return this;
+  }
+
+  // Same digits as String.format("%.2f", cents / 100.0) for whole cent amounts.
+  public FrameBuffer appendMoney(int cents) {
+    long amount = cents;
+
+    if (amount < 0) {
+      append((byte) '-');
+      amount = -amount;
+    }
+
+    appendInt((int) (amount / 100));
+    append((byte) '.');
+    append((byte) ('0' + amount / 10 % 10));
+    return append((byte) ('0' + amount % 10));
+  }
+
+  public boolean regionEquals(int from, int to, FrameBuffer other, int otherFrom, int otherTo) {
+    return Arrays.equals(bytes, from, to, other.bytes, otherFrom, otherTo);
+  }
+
+  public void writeTo(PrintStream out) {
+    out.write(bytes, 0, length);
+  }
+
+  @Override
+  public String toString() {
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+}
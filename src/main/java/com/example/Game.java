@@ -1,34 +1,40 @@
 package com.example;
 
 import java.io.*;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-public class Game {
-  public static final int MAX_PLAYER_HANDS = 7;
+public class Game extends RoundEngine implements Decider {
   private static final String SAVE_FILE = "blackjack.txt";
   private static final int MIN_BET = 500;
+  private static final int HISTORY_SEGMENT_SIZE = 1 << 20;
+  private static final Logger LOG = Logger.getLogger(Game.class.getName());
   private final BufferedReader reader;
-  private final Shoe shoe;
-  private final ArrayList<PlayerHand> playerHands;
-  private int numDecks;
-  private int deckType;
+  private final PrintStream out;
+  private final String saveFile;
+  private final SavePersister persister;
+  private final FrameBuffer frame;
+  private TerminalRenderer screen;
   private int faceType;
-  private int money;
-  private int currentBet;
-  private DealerHand dealerHand;
-  private int currentHand;
+  private String compositionError;
   private boolean quitting;
 
   public Game() {
-    this.reader = new BufferedReader(new InputStreamReader(System.in));
-    this.shoe = new Shoe(this);
-    this.numDecks = 1;
-    this.deckType = 1;
+    this(new BufferedReader(new InputStreamReader(System.in)), System.out, SAVE_FILE);
+  }
+
+  public Game(BufferedReader reader, PrintStream out, String saveFile) {
+    super(new Rules(1, 1));
+    this.reader = reader;
+    this.out = out;
+    this.saveFile = saveFile;
+    this.persister = saveFile == null ? null : new SavePersister(Path.of(saveFile), e -> LOG.log(Level.WARNING, "Error saving game to " + saveFile, e));
+    this.frame = new FrameBuffer();
+    this.screen = new TerminalRenderer(out);
     this.faceType = 1;
-    this.money = 10000;
-    this.currentBet = 500;
-    this.playerHands = new ArrayList<>();
     this.quitting = false;
+    getShoe().setPreparer(ShoePreparer.shared());
     loadGame();
   }
 
@@ -36,138 +42,66 @@ public class Game {
     (new Game()).loop();
   }
 
-  protected BufferedReader getReader() {
-    return reader;
-  }
-
-  public int getNumDecks() {
-    return numDecks;
-  }
-
-  public int getFaceType() {
-    return faceType;
-  }
-
-  public String cardFace(int value, int suit) {
-    return (getFaceType() == 2 ? Card.FACES2 : Card.FACES)[value][suit];
-  }
-
-  public int getCurrentHand() {
-    return currentHand;
-  }
-
-  public boolean moreHandsToPlay() {
-    return currentHand < playerHands.size() - 1;
-  }
-
-  public void playMoreHands() {
-    currentHand++;
-
-    PlayerHand playerHand = playerHands.get(currentHand);
-    playerHand.dealCard();
-
-    if (playerHand.isDone()) {
-      playerHand.process();
-      return;
-    }
-
-    drawHands();
-    playerHand.getAction();
-  }
-
-  public ArrayList<PlayerHand> getPlayerHands() {
-    return playerHands;
-  }
+  public static void run(Path history) {
+    Game game = new Game();
 
-  public void splitCurrentHand() {
-    int handCount = getPlayerHands().size();
-    PlayerHand newHand = new PlayerHand(this);
-    getPlayerHands().add(newHand);
-
-    while (handCount > currentHand) {
-      PlayerHand playerHand = getPlayerHands().get(handCount - 1).clone();
-      getPlayerHands().set(handCount, playerHand);
-      handCount--;
-    }
-
-    PlayerHand currentPlayerHand = getPlayerHands().get(currentHand);
-    PlayerHand splitHand = getPlayerHands().get(currentHand + 1);
-
-    Card splitCard1 = currentPlayerHand.cards.get(1).clone();
-    Card splitCard0 = currentPlayerHand.cards.get(0).clone();
-
-    splitHand.cards = new ArrayList<>();
-    splitHand.cards.add(splitCard1);
-    currentPlayerHand.cards = new ArrayList<>();
-    currentPlayerHand.cards.add(splitCard0);
-    currentPlayerHand.dealCard();
-
-    if (currentPlayerHand.isDone()) {
-      currentPlayerHand.process();
-      return;
+    try (HandJournal journal = new HandJournal(history, HISTORY_SEGMENT_SIZE)) {
+      game.setJournal(journal);
+      game.loop();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error opening hand history: " + e.getMessage(), e);
     }
-
-    drawHands();
-    currentPlayerHand.getAction();
-  }
-
-  public int allBets() {
-    return playerHands.stream()
-        .mapToInt(PlayerHand::getBet)
-        .sum();
   }
 
-  public int getMoney() {
-    return money;
+  protected BufferedReader getReader() {
+    return reader;
   }
 
-  public void setMoney(int money) {
-    this.money = money;
+  protected PrintStream getOut() {
+    return out;
   }
 
-  public int getCurrentBet() {
-    return currentBet;
+  protected TerminalRenderer getScreen() {
+    return screen;
   }
 
-  public Shoe getShoe() {
-    return shoe;
+  protected void setScreen(TerminalRenderer screen) {
+    this.screen = screen;
   }
 
-  private void normalizeBet() {
-    if (this.currentBet > money) {
-      this.currentBet = money;
-    }
+  @Override
+  public int getFaceType() {
+    return faceType;
   }
 
-  public void getNewBet() {
+  public GameState getNewBet() {
     drawHands();
-    System.out.print(" (1) $5  (2) $10  (3) $25  (4) $100");
+    out.print(" (1) $5  (2) $10  (3) $25  (4) $100");
 
     switch (getChar()) {
       case '1':
-        currentBet = 500;
+        setCurrentBet(500);
         break;
       case '2':
-        currentBet = 1000;
+        setCurrentBet(1000);
         break;
       case '3':
-        currentBet = 2500;
+        setCurrentBet(2500);
         break;
       case '4':
-        currentBet = 10000;
+        setCurrentBet(10000);
         break;
       default:
-        getNewBet();
-        return;
+        return GameState.NEW_BET;
     }
 
     normalizeBet();
-    dealNewHand();
+    return GameState.DEAL;
   }
 
-  public void getNewNumDecks() {
+  public GameState getNewNumDecks() {
     drawHands();
-    System.out.printf(" Number of Decks: %d  Enter New Number of Decks (1-8): ", numDecks);
+    out.printf(" Number of Decks: %d  Enter New Number of Decks (1-8): ", getNumDecks());
 
     int newNumDecks = getChar() - '0';
 
@@ -177,314 +111,330 @@ public class Game {
       newNumDecks = 8;
     }
 
-    this.numDecks = newNumDecks;
-    gameOptions();
+    setNumDecks(newNumDecks);
+    return GameState.GAME_OPTIONS;
   }
 
-  public void getNewDeckType() {
+  public GameState getNewDeckType() {
     drawHands();
-    System.out.println(" (1) Regular  (2) Aces  (3) Jacks  (4) Aces & Jacks  (5) Sevens  (6) Eights");
+
+    // The deck menu is shown again after a composition that did not parse, so say why.
+    if (compositionError != null) {
+      out.println(" Invalid composition: " + compositionError);
+      compositionError = null;
+    }
+
+    out.println(" (1) Regular  (2) Aces  (3) Jacks  (4) Aces & Jacks  (5) Sevens  (6) Eights  (7) Custom");
 
     int newDeckType = getChar() - '0';
 
+    if (newDeckType == 7) {
+      return GameState.NEW_COMPOSITION;
+    }
+
     if (newDeckType > 0 && newDeckType < 7) {
-      deckType = newDeckType;
+      setDeckType(newDeckType);
 
       if (newDeckType > 1) {
-        this.numDecks = 8;
+        setNumDecks(8);
       }
 
-      shoe.buildNewShoe(deckType);
+      getShoe().buildNewShoe(getDeckType());
 
       saveGame();
-      return;
+      return GameState.DEAL;
+    }
+
+    return GameState.NEW_DECK_TYPE;
+  }
+
+  public GameState getNewComposition() {
+    drawHands();
+    out.print(" Composition (for example -5 or *=0,A=26,J=26): ");
+
+    try {
+      setComposition(Composition.parse(getLine()));
+    } catch (IllegalArgumentException e) {
+      compositionError = e.getMessage();
+      return GameState.NEW_DECK_TYPE;
     }
 
-    getNewDeckType();
+    getShoe().buildNewShoe(getDeckType());
+
+    saveGame();
+    return GameState.DEAL;
   }
 
-  public void getNewFaceType() {
+  public GameState getNewFaceType() {
     drawHands();
-    System.out.println(" (1) A♠  (2) 🂡");
+    out.println(" (1) A♠  (2) 🂡");
 
     int newFaceType = getChar() - '0';
 
     if (newFaceType == 1 || newFaceType == 2) {
       faceType = newFaceType;
       saveGame();
-      return;
+      return GameState.DEAL;
     }
 
-    drawHands();
-    getNewFaceType();
+    return GameState.NEW_FACE_TYPE;
   }
 
-  public void gameOptions() {
+  public GameState gameOptions() {
     drawHands();
-    System.out.println(" (N) Number of Decks  (T) Deck Type  (F) Face Type  (B) Back");
+    out.println(" (N) Number of Decks  (T) Deck Type  (F) Face Type  (B) Back");
 
     switch (getChar()) {
       case 'n':
-        getNewNumDecks();
-        return;
+        return GameState.NEW_NUM_DECKS;
       case 't':
-        getNewDeckType();
-        return;
+        return GameState.NEW_DECK_TYPE;
       case 'f':
-        getNewFaceType();
-        return;
+        return GameState.NEW_FACE_TYPE;
       case 'b':
         drawHands();
-        betOptions();
-        return;
+        return GameState.BET_OPTIONS;
     }
 
-    drawHands();
-    gameOptions();
+    return GameState.GAME_OPTIONS;
   }
 
-  public void betOptions() {
-    System.out.println(" (D) Deal Hand  (B) Change Bet  (O) Options  (Q) Quit");
+  public GameState betOptions() {
+    out.println(" (D) Deal Hand  (B) Change Bet  (O) Options  (Q) Quit");
 
     switch (getChar()) {
       case 'd':
-        return;
+        return GameState.DEAL;
       case 'b':
-        getNewBet();
-        return;
+        return GameState.NEW_BET;
       case 'o':
-        gameOptions();
-        return;
+        return GameState.GAME_OPTIONS;
       case 'q':
         this.quitting = true;
         clear();
-        return;
+        return GameState.QUIT;
     }
 
     drawHands();
-    betOptions();
+    return GameState.BET_OPTIONS;
   }
 
-  public void insureHand() {
-    PlayerHand playerHand = getPlayerHands().get(currentHand);
-    playerHand.setBet(playerHand.getBet() / 2);
-    playerHand.setPlayed(true);
-    playerHand.setPaid(true);
-    playerHand.setStatus(HandStatus.LOST);
-    money -= playerHand.getBet();
-
+  @Override
+  public boolean takeInsurance(RoundEngine engine) {
     drawHands();
-    betOptions();
-  }
 
-  public void payHands() {
-    int dealerHandValue = dealerHand.getValue(CountMethod.SOFT);
-    boolean dealerHandBusted = dealerHand.isBusted();
+    while (true) {
+      out.println(" Insurance?  (Y) Yes (N) No");
 
-    for (PlayerHand playerHand : playerHands) {
-      if (playerHand.isPaid()) {
-        continue;
+      switch (getChar()) {
+        case 'y':
+          return true;
+        case 'n':
+          return false;
       }
 
-      playerHand.setPaid(true);
-      int playerHandValue = playerHand.getValue(CountMethod.SOFT);
+      drawHands();
+    }
+  }
 
-      if (dealerHandBusted || playerHandValue > dealerHandValue) {
-        if (playerHand.isBlackjack()) {
-          playerHand.setBet((int) (playerHand.getBet() * 1.5));
-        }
+  @Override
+  public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+    drawHands();
 
-        money += playerHand.getBet();
-        playerHand.setStatus(HandStatus.WON);
+    while (true) {
+      StringBuilder prompt = new StringBuilder(" ");
+      prompt.append("(H) Hit  (S) Stand  ");
 
-      } else if (playerHandValue < dealerHandValue) {
-        money -= playerHand.getBet();
-        playerHand.setStatus(HandStatus.LOST);
+      if (playerHand.canSplit()) {
+        prompt.append("(P) Split  ");
+      }
+      if (playerHand.canDbl()) {
+        prompt.append("(D) Double");
+      }
 
-      } else {
-        playerHand.setStatus(HandStatus.PUSH);
+      out.println(prompt);
+
+      switch (getChar()) {
+        case 'h':
+          return Action.HIT;
+        case 's':
+          return Action.STAND;
+        case 'p':
+          if (playerHand.canSplit()) {
+            return Action.SPLIT;
+          }
+          break;
+        case 'd':
+          if (playerHand.canDbl()) {
+            return Action.DOUBLE;
+          }
       }
+
+      drawHands();
     }
+  }
 
-    normalizeBet();
+  public GameState dealNewHand() {
+    play(this);
     saveGame();
-  }
 
-  public boolean needToPlayDealerHand() {
-    return playerHands.stream()
-        .anyMatch(playerHand -> !(playerHand.isBusted() || playerHand.isBlackjack()));
+    drawHands();
+    return GameState.BET_OPTIONS;
+  }
+
+  public GameState step(GameState state) {
+    switch (state) {
+      case DEAL:
+        return dealNewHand();
+      case BET_OPTIONS:
+        return betOptions();
+      case NEW_BET:
+        return getNewBet();
+      case GAME_OPTIONS:
+        return gameOptions();
+      case NEW_NUM_DECKS:
+        return getNewNumDecks();
+      case NEW_DECK_TYPE:
+        return getNewDeckType();
+      case NEW_COMPOSITION:
+        return getNewComposition();
+      case NEW_FACE_TYPE:
+        return getNewFaceType();
+      default:
+        return GameState.QUIT;
+    }
   }
 
-  public void playDealerHand() {
-    if (dealerHand.isBlackjack()) {
-      dealerHand.setHideDownCard(false);
-    }
+  public void drawHands() {
+    frame.reset();
+    frame.setFaceType(getFaceType());
 
-    if (!needToPlayDealerHand()) {
-      dealerHand.setPlayed(true);
-      payHands();
-      return;
-    }
+    frame.append("\n Dealer:\n");
 
-    dealerHand.setHideDownCard(false);
+    if (getDealerHand() != null) {
+      getDealerHand().draw(frame);
+    }
 
-    int softCount = dealerHand.getValue(CountMethod.SOFT);
-    int hardCount = dealerHand.getValue(CountMethod.HARD);
+    frame.append("\n Player $").appendMoney(getMoney()).append(":\n");
 
-    while (softCount < 18 && hardCount < 17) {
-      dealerHand.dealCard();
-      softCount = dealerHand.getValue(CountMethod.SOFT);
-      hardCount = dealerHand.getValue(CountMethod.HARD);
+    for (PlayerHand playerHand : getPlayerHands()) {
+      playerHand.draw(frame);
     }
 
-    dealerHand.setPlayed(true);
-
-    payHands();
+    screen.render(frame);
   }
 
-  public void noInsurance() {
-    if (dealerHand.isBlackjack()) {
-      dealerHand.setHideDownCard(false);
-      dealerHand.setPlayed(true);
-
-      payHands();
-      drawHands();
-      betOptions();
-
+  public void saveGame() {
+    if (persister == null) {
       return;
     }
 
-    PlayerHand playerHand = playerHands.get(0);
-    if (playerHand.isDone()) {
-      playDealerHand();
-      drawHands();
-      betOptions();
+    String data = String.format("%d|%d|%d|%d|%d", getNumDecks(), getMoney(), getCurrentBet(), getDeckType(), faceType);
 
-      return;
+    if (getDeckType() == Composition.CUSTOM) {
+      data += "|" + getComposition();
     }
 
-    drawHands();
-    playerHand.getAction();
+    persister.save(data);
   }
 
-  public void askInsurance() {
-    System.out.println(" Insurance?  (Y) Yes (N) No");
-
-    switch (getChar()) {
-      case 'y':
-        insureHand();
-        return;
-      case 'n':
-        noInsurance();
-        return;
+  public void flushSaves() {
+    if (persister != null) {
+      persister.flush();
     }
-
-    drawHands();
-    askInsurance();
   }
 
-  public void dealNewHand() {
-    if (getShoe().needToShuffle()) {
-      getShoe().buildNewShoe(deckType);
+  public void loadGame() {
+    if (saveFile != null) {
+      readSave();
     }
 
-    playerHands.clear();
-    playerHands.add(new PlayerHand(this));
-    currentHand = 0;
-
-    dealerHand = new DealerHand(this);
-
-    for (int i = 0; i < 2; i++) {
-      playerHands.get(0).dealCard();
-      dealerHand.dealCard();
+    if (getMoney() < MIN_BET) {
+      setMoney(10000);
+      setCurrentBet(MIN_BET);
     }
+  }
 
-    if (dealerHand.upcardIsAce()) {
-      drawHands();
-      askInsurance();
+  private void readSave() {
+    try (BufferedReader lineReader = new BufferedReader(new FileReader(saveFile))) {
+      String line = lineReader.readLine();
 
-      return;
-    }
+      if (line == null) {
+        return;
+      }
 
-    if (playerHands.get(0).isDone()) {
-      dealerHand.setHideDownCard(false);
+      String[] data = line.split("\\|");
 
-      payHands();
-      drawHands();
-      betOptions();
+      if (data.length == 5 || data.length == 6) {
+        setNumDecks(Integer.parseInt(data[0]));
+        setMoney(Integer.parseInt(data[1]));
+        setCurrentBet(Integer.parseInt(data[2]));
+        setDeckType(Integer.parseInt(data[3]));
+        this.faceType = Integer.parseInt(data[4]);
+      }
 
-      return;
+      if (data.length == 6) {
+        setComposition(Composition.parse(data[5]));
+      }
+    } catch (IOException | IllegalArgumentException ignored) {
     }
-
-    drawHands();
-    playerHands.get(0).getAction();
-
-    saveGame();
   }
 
-  public void drawHands() {
-    clear();
-
-    StringBuilder output = new StringBuilder();
+  public char getChar() {
+    out.flush();
 
-    output.append("\n Dealer:\n").append(dealerHand);
-    output.append(String.format("\n Player $%.2f:\n", money / 100.0));
+    try {
+      int c = getReader().read();
 
-    for (PlayerHand playerHand : playerHands) {
-      output.append(playerHand);
-    }
+      while (c == '\r' || c == '\n') {
+        c = getReader().read();
+      }
 
-    System.out.print(output);
-  }
+      if (c < 0) {
+        throw new UncheckedIOException(new EOFException("Input closed"));
+      }
 
-  public void saveGame() {
-    try {
-      BufferedWriter writer = new BufferedWriter(new FileWriter(SAVE_FILE));
-      writer.write(String.format("%d|%d|%d|%d|%d", numDecks, money, currentBet, deckType, faceType));
-      writer.close();
-    } catch (IOException ignored) {
+      return (char) c;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error reading input: " + e.getMessage(), e);
     }
   }
 
-  public void loadGame() {
+  public String getLine() {
+    out.flush();
+
     try {
-      BufferedReader lineReader = new BufferedReader(new FileReader(SAVE_FILE));
-      String line = lineReader.readLine();
-      String[] data = line.split("\\|");
-      lineReader.close();
+      String line = getReader().readLine();
 
-      if (data.length == 5) {
-        this.numDecks = Integer.parseInt(data[0]);
-        this.money = Integer.parseInt(data[1]);
-        this.currentBet = Integer.parseInt(data[2]);
-        this.deckType = Integer.parseInt(data[3]);
-        this.faceType = Integer.parseInt(data[4]);
+      while (line != null && line.isBlank()) {
+        line = getReader().readLine();
       }
-    } catch (IOException | NullPointerException ignored) {
-    }
 
-    if (money < MIN_BET) {
-      money = 10000;
-      currentBet = MIN_BET;
-    }
-  }
+      if (line == null) {
+        throw new UncheckedIOException(new EOFException("Input closed"));
+      }
 
-  public char getChar() {
-    try {
-      return (char) getReader().read();
+      return line;
     } catch (IOException e) {
-      throw new RuntimeException("Error reading input: " + e.getMessage(), e);
+      throw new UncheckedIOException("Error reading input: " + e.getMessage(), e);
     }
   }
 
   public void clear() {
-    System.out.print("\033[H\033[2J");
-    System.out.flush();
+    out.print("\033[H\033[2J");
+    out.flush();
+    screen.reset();
   }
 
   public void loop() {
-    while (!quitting) {
-      dealNewHand();
+    GameState state = GameState.DEAL;
+
+    try {
+      while (!quitting && state != GameState.QUIT) {
+        state = step(state);
+      }
+    } finally {
+      flushSaves();
     }
   }
 }
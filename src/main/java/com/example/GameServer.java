@@ -0,0 +1,99 @@
+package com.example;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class GameServer implements Closeable {
+  private static final int BACKLOG = 1024;
+  private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1000;
+  private static final Logger LOG = Logger.getLogger(GameServer.class.getName());
+  private final ServerSocket serverSocket;
+  private final ExecutorService sessions;
+
+  public GameServer(int port) throws IOException {
+    this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+    this.sessions = newSessionExecutor();
+  }
+
+  public static void run(int port) {
+    try (GameServer server = new GameServer(port)) {
+      System.out.printf("Listening on %s:%d%n", InetAddress.getLoopbackAddress().getHostAddress(), server.getPort());
+      server.serve();
+    } catch (IOException e) {
+      throw new RuntimeException("Error starting server: " + e.getMessage(), e);
+    }
+  }
+
+  // Virtual threads arrive in Java 21; older runtimes get a pooled thread per session.
+  static ExecutorService newSessionExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newCachedThreadPool();
+    }
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  // Failures such as running out of file descriptors usually clear up, so accepting backs off and
+  // retries rather than spinning; closing the server ends the loop.
+  public void serve() {
+    long backoff = 0;
+
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        sessions.execute(() -> play(socket));
+        backoff = 0;
+      } catch (IOException e) {
+        if (serverSocket.isClosed()) {
+          return;
+        }
+
+        backoff = Math.min(Math.max(backoff * 2, 10), MAX_ACCEPT_BACKOFF_MILLIS);
+        LOG.log(Level.WARNING, "Accepting a connection failed, retrying in " + backoff + " ms", e);
+
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void play(Socket socket) {
+    try (socket) {
+      try {
+        socket.setTcpNoDelay(true);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), false, StandardCharsets.UTF_8);
+
+        new Game(reader, out, null).loop();
+        out.flush();
+      } catch (UncheckedIOException ignored) {
+        // The client went away, which is how most sessions end.
+      } catch (RuntimeException e) {
+        LOG.log(Level.SEVERE, "Session " + socket.getRemoteSocketAddress() + " failed", e);
+      }
+    } catch (IOException ignored) {
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    sessions.shutdownNow();
+  }
+}
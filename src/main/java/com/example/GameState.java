@@ -0,0 +1,13 @@
+package com.example;
+
+public enum GameState {
+  DEAL,
+  BET_OPTIONS,
+  NEW_BET,
+  GAME_OPTIONS,
+  NEW_NUM_DECKS,
+  NEW_DECK_TYPE,
+  NEW_COMPOSITION,
+  NEW_FACE_TYPE,
+  QUIT
+}
@@ -2,61 +2,91 @@ package com.example;
 
 import java.util.ArrayList;
 
-public class Hand implements Cloneable {
-  protected Game game;
-  protected ArrayList<Card> cards;
+public class Hand {
+  // Every card adds at least one to the hard total, and a hand is done once that reaches 21.
+  static final int MAX_CARDS = 21;
+  protected final RoundEngine engine;
+  protected final ArrayList<Card> cards;
   protected boolean stood;
   protected boolean played;
+  private int hardTotal;
+  private int aces;
 
-  public Hand(Game game) {
-    this.game = game;
-    this.cards = new ArrayList<>();
+  public Hand(RoundEngine engine) {
+    this.engine = engine;
+    this.cards = new ArrayList<>(MAX_CARDS);
     this.stood = false;
     this.played = false;
+    this.hardTotal = 0;
+    this.aces = 0;
   }
 
-  protected Object superClone() throws CloneNotSupportedException {
-    return super.clone();
+  // Empties the hand for the next round, keeping the card list's storage.
+  public void reset() {
+    cards.clear();
+    stood = false;
+    played = false;
+    hardTotal = 0;
+    aces = 0;
   }
 
-  @Override
-  public Hand clone() {
-    try {
-      Hand cloned = (Hand) superClone();
-      cloned.cards = new ArrayList<>(this.cards);
-      return cloned;
-    } catch (CloneNotSupportedException e) {
-      throw new AssertionError();
-    }
+  private static int cardValue(Card card) {
+    return card.rank() + 1;
   }
 
   protected int calculateValue(CountMethod countMethod, boolean skipHiddenCard) {
-    int total = 0;
+    int total = hardTotal;
+    int aceCount = aces;
+
+    if (skipHiddenCard && cards.size() > 1) {
+      int v = cardValue(cards.get(1));
+      total -= v;
 
-    for (int i = 0; i < cards.size(); i++) {
-      if (skipHiddenCard && i == 1) {
-        continue;
+      if (v == 1) {
+        aceCount--;
       }
+    }
+
+    if (countMethod == CountMethod.SOFT && aceCount > 0 && total < 12) {
+      return total + 10;
+    }
 
-      int cardValue = cards.get(i).value() + 1;
-      int v = (cardValue > 9) ? 10 : cardValue;
+    return total;
+  }
 
-      if (countMethod == CountMethod.SOFT && v == 1 && total < 11) {
-        v = 11;
-      }
+  protected void addCard(Card card) {
+    cards.add(card);
 
-      total += v;
+    int v = cardValue(card);
+    hardTotal += v;
+
+    if (v == 1) {
+      aces++;
     }
+  }
+
+  protected Card removeCard(int index) {
+    Card card = cards.remove(index);
+
+    int v = cardValue(card);
+    hardTotal -= v;
 
-    if (countMethod == CountMethod.SOFT && total > 21) {
-      return calculateValue(CountMethod.HARD, skipHiddenCard);
+    if (v == 1) {
+      aces--;
     }
 
-    return total;
+    return card;
   }
 
   public void dealCard() {
-    this.cards.add(game.getShoe().getNextCard());
+    Card card = engine.getShoe().getNextCard();
+
+    if (card == null) {
+      engine.getShoe().buildNewShoe(engine.getDeckType());
+      card = engine.getShoe().getNextCard();
+    }
+
+    addCard(card);
   }
 
   public void dealCards(int numCards) {
@@ -0,0 +1,231 @@
+package com.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class HandJournal implements Closeable {
+  public static final int MAGIC = 0x424a484a;
+  public static final int VERSION = 1;
+  public static final int HEADER_SIZE = 16;
+  public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+  public static final byte END = 0;
+  public static final byte SHOE = 1;
+  public static final byte ROUND = 2;
+  public static final byte COMPOSITION = 3;
+  public static final int SHOE_SIZE = 16;
+  public static final int IN_ROUND = 1;
+  public static final int COMPOSITION_SIZE = 16;
+  private static final int MAX_RECORD_SIZE = 4096;
+  private static final String SUFFIX = ".journal";
+  private final Path directory;
+  private final int segmentSize;
+  private MappedByteBuffer segment;
+  private int segmentIndex;
+  private int position;
+  private long rounds;
+
+  public HandJournal(Path directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public HandJournal(Path directory, int segmentSize) throws IOException {
+    if (segmentSize < HEADER_SIZE + MAX_RECORD_SIZE) {
+      throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+    }
+
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    Files.createDirectories(directory);
+
+    List<Path> segments = segments(directory);
+    segmentIndex = segments.size();
+
+    if (!segments.isEmpty()) {
+      ByteBuffer last = map(segments.get(segments.size() - 1));
+      rounds = last.getLong(8) + countRounds(last);
+    }
+
+    openSegment();
+  }
+
+  public static List<Path> segments(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return new ArrayList<>();
+    }
+
+    try (Stream<Path> paths = Files.list(directory)) {
+      return paths.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+    }
+  }
+
+  public static MappedByteBuffer map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+        throw new IOException("Not a journal segment: " + path);
+      }
+
+      return buffer;
+    }
+  }
+
+  // Counts the committed rounds in a segment; a record whose type byte is still zero was never finished.
+  public static long countRounds(ByteBuffer segment) {
+    long count = 0;
+    int position = HEADER_SIZE;
+
+    while (position < segment.limit()) {
+      byte type = segment.get(position);
+
+      if (type == SHOE) {
+        position += SHOE_SIZE;
+      } else if (type == COMPOSITION) {
+        position += COMPOSITION_SIZE;
+      } else if (type == ROUND) {
+        position += segment.getShort(position + 1) & 0xffff;
+        count++;
+      } else {
+        break;
+      }
+    }
+
+    return count;
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  private void openSegment() throws IOException {
+    Path path = directory.resolve(String.format("%08d%s", segmentIndex, SUFFIX));
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)) {
+      segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    segment.putInt(0, MAGIC);
+    segment.putShort(4, (short) VERSION);
+    segment.putLong(8, rounds);
+    position = HEADER_SIZE;
+    segmentIndex++;
+  }
+
+  private void reserve() {
+    if (position + MAX_RECORD_SIZE <= segmentSize) {
+      return;
+    }
+
+    try {
+      segment.force();
+      openSegment();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // A custom shoe is preceded by its per-value card counts, always within the same segment.
+  public void recordShoe(long seed, int numDecks, Composition composition, int cut, boolean inRound) {
+    reserve();
+
+    int start = position;
+
+    if (composition.isCustom()) {
+      for (int value = 0; value < 13; value++) {
+        segment.put(start + 1 + value, (byte) composition.getCount(value));
+      }
+
+      segment.put(start, COMPOSITION);
+      start += COMPOSITION_SIZE;
+    }
+
+    segment.put(start + 1, (byte) (inRound ? IN_ROUND : 0));
+    segment.putLong(start + 2, seed);
+    segment.put(start + 10, (byte) numDecks);
+    segment.put(start + 11, (byte) composition.getDeckType());
+    segment.putInt(start + 12, cut);
+    segment.put(start, SHOE);
+
+    position = start + SHOE_SIZE;
+  }
+
+  public static Composition readComposition(ByteBuffer segment, int position) {
+    int[] counts = new int[13];
+
+    for (int value = 0; value < 13; value++) {
+      counts[value] = segment.get(position + 1 + value) & 0xff;
+    }
+
+    return Composition.of(counts);
+  }
+
+  public void recordRound(RoundEngine engine, int moneyBefore, int bet) {
+    reserve();
+
+    int start = position;
+    int p = start + 3;
+
+    segment.putInt(p, moneyBefore);
+    segment.putInt(p + 4, bet);
+    segment.putInt(p + 8, engine.getMoney());
+    segment.put(p + 12, (byte) engine.getNumDecks());
+    segment.put(p + 13, (byte) engine.getDeckType());
+    segment.put(p + 14, (byte) engine.getInsurance());
+    segment.put(p + 15, (byte) engine.getActionCount());
+    p += 16;
+
+    for (int i = 0; i < engine.getActionCount(); i++) {
+      segment.put(p++, (byte) engine.getAction(i).ordinal());
+    }
+
+    p = putCards(p, engine.getDealerHand());
+    segment.put(p++, (byte) engine.getPlayerHands().size());
+
+    for (int i = 0; i < engine.getPlayerHands().size(); i++) {
+      PlayerHand playerHand = engine.getPlayerHands().get(i);
+      p = putCards(p, playerHand);
+      segment.putInt(p, playerHand.getBet());
+      segment.put(p + 4, (byte) playerHand.getStatus().ordinal());
+      p += 5;
+    }
+
+    segment.putShort(start + 1, (short) (p - start));
+    segment.put(start, ROUND);
+
+    position = p;
+    rounds++;
+  }
+
+  private int putCards(int p, Hand hand) {
+    segment.put(p++, (byte) hand.cards.size());
+
+    for (int i = 0; i < hand.cards.size(); i++) {
+      segment.put(p++, (byte) hand.cards.get(i).id());
+    }
+
+    return p;
+  }
+
+  public void flush() {
+    segment.force();
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+}
@@ -0,0 +1,296 @@
+package com.example;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+public class HandReplay {
+  public static final int INDEX_INTERVAL = 4096;
+  private static final Action[] ACTIONS = Action.values();
+  private final List<Path> segments;
+  private final SeedQueue seeds = new SeedQueue();
+  private final RoundEngine engine;
+  private final ScriptedDecider decider = new ScriptedDecider();
+  private MappedByteBuffer segment;
+  private int segmentIndex;
+  private int position;
+  private long round;
+  private int recordedMoney;
+  private boolean verifyPayouts = true;
+  private long[] indexRounds;
+  private int[] indexSegments;
+  private int[] indexPositions;
+  private int indexSize;
+
+  public HandReplay(Path directory) throws IOException {
+    this(directory, random -> new RoundEngine(new Rules(1, 1), random));
+  }
+
+  // The engine factory may return a subclass, for example one that pays hands under other rules.
+  public HandReplay(Path directory, Function<RandomGenerator, RoundEngine> engines) throws IOException {
+    this.segments = HandJournal.segments(directory);
+    this.engine = engines.apply(seeds);
+    this.segmentIndex = -1;
+    this.round = -1;
+  }
+
+  // Hands out the recorded shoe seeds in journal order in place of a random source.
+  private static class SeedQueue implements RandomGenerator {
+    private final long[] seeds = new long[4];
+    private int head;
+    private int tail;
+
+    void add(long seed) {
+      seeds[tail++ & 3] = seed;
+    }
+
+    void clear() {
+      head = tail;
+    }
+
+    @Override
+    public long nextLong() {
+      if (head == tail) {
+        throw new IllegalStateException("No recorded shoe left to deal from");
+      }
+
+      return seeds[head++ & 3];
+    }
+  }
+
+  private class ScriptedDecider implements Decider {
+    private int insurance;
+    private int next;
+    private int end;
+
+    void start(int offset, int count) {
+      next = offset;
+      end = offset + count;
+    }
+
+    @Override
+    public boolean takeInsurance(RoundEngine engine) {
+      return (segment.get(insurance) & RoundEngine.INSURANCE_TAKEN) != 0;
+    }
+
+    @Override
+    public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+      if (next == end) {
+        throw new IllegalStateException("Round " + round + " asks for more actions than were recorded");
+      }
+
+      return ACTIONS[segment.get(next++)];
+    }
+  }
+
+  public RoundEngine getEngine() {
+    return engine;
+  }
+
+  public long getRound() {
+    return round;
+  }
+
+  public int getRecordedMoney() {
+    return recordedMoney;
+  }
+
+  // Replaying under other payout rules still checks the cards, but not the bets, statuses or money.
+  public void setVerifyPayouts(boolean verifyPayouts) {
+    this.verifyPayouts = verifyPayouts;
+  }
+
+  private boolean nextSegment() throws IOException {
+    if (segmentIndex + 1 >= segments.size()) {
+      return false;
+    }
+
+    segment = HandJournal.map(segments.get(++segmentIndex));
+    position = HandJournal.HEADER_SIZE;
+    round = segment.getLong(8) - 1;
+    return true;
+  }
+
+  // Replays the next recorded round and returns false once the journal is exhausted.
+  public boolean next() throws IOException {
+    if (segment == null && !nextSegment()) {
+      return false;
+    }
+
+    while (true) {
+      byte type = position < segment.limit() ? segment.get(position) : HandJournal.END;
+
+      if (type == HandJournal.SHOE) {
+        shoe(position);
+        position += HandJournal.SHOE_SIZE;
+      } else if (type == HandJournal.COMPOSITION) {
+        engine.setComposition(HandJournal.readComposition(segment, position));
+        position += HandJournal.COMPOSITION_SIZE;
+      } else if (type == HandJournal.ROUND) {
+        replay(position);
+        position += segment.getShort(position + 1) & 0xffff;
+        return true;
+      } else if (!nextSegment()) {
+        return false;
+      }
+    }
+  }
+
+  private void shoe(int p) {
+    seeds.add(segment.getLong(p + 2));
+
+    if ((segment.get(p + 1) & HandJournal.IN_ROUND) == 0) {
+      engine.setNumDecks(segment.get(p + 10));
+      engine.setDeckType(segment.get(p + 11));
+      engine.getShoe().buildNewShoe(engine.getDeckType());
+    }
+  }
+
+  private void replay(int p) {
+    round++;
+    engine.setMoney(segment.getInt(p + 3));
+    engine.setCurrentBet(segment.getInt(p + 7));
+    engine.setNumDecks(segment.get(p + 15));
+    engine.setDeckType(segment.get(p + 16));
+    recordedMoney = segment.getInt(p + 11);
+
+    int actions = segment.get(p + 18) & 0xff;
+    decider.insurance = p + 17;
+    decider.start(p + 19, actions);
+
+    engine.play(decider);
+    verify(p + 19 + actions);
+  }
+
+  private void verify(int p) {
+    p = verify(p, engine.getDealerHand());
+    int hands = segment.get(p++);
+
+    if (hands != engine.getPlayerHands().size()) {
+      throw new IllegalStateException("Round " + round + " does not match the journal");
+    }
+
+    for (int i = 0; i < hands; i++) {
+      PlayerHand playerHand = engine.getPlayerHands().get(i);
+      p = verify(p, playerHand);
+
+      if (verifyPayouts && (segment.getInt(p) != playerHand.getBet() || segment.get(p + 4) != playerHand.getStatus().ordinal())) {
+        throw new IllegalStateException("Round " + round + " pays differently than the journal");
+      }
+
+      p += 5;
+    }
+
+    if (verifyPayouts && engine.getMoney() != recordedMoney) {
+      throw new IllegalStateException("Round " + round + " pays differently than the journal");
+    }
+  }
+
+  private int verify(int p, Hand hand) {
+    int count = segment.get(p++);
+    boolean same = count == hand.cards.size();
+
+    for (int i = 0; same && i < count; i++) {
+      same = segment.get(p + i) == hand.cards.get(i).id();
+    }
+
+    if (!same) {
+      throw new IllegalStateException("Round " + round + " does not match the journal");
+    }
+
+    return p + count;
+  }
+
+  // Every entry is a shoe shuffled between rounds, the only points a replay can restart from. A
+  // custom shoe's entry points at the composition recorded just before it.
+  private void buildIndex() throws IOException {
+    indexRounds = new long[16];
+    indexSegments = new int[16];
+    indexPositions = new int[16];
+
+    for (int s = 0; s < segments.size(); s++) {
+      MappedByteBuffer buffer = HandJournal.map(segments.get(s));
+      long next = buffer.getLong(8);
+      int p = HandJournal.HEADER_SIZE;
+      int start = p;
+
+      while (p < buffer.limit()) {
+        byte type = buffer.get(p);
+
+        if (type == HandJournal.SHOE) {
+          boolean between = (buffer.get(p + 1) & HandJournal.IN_ROUND) == 0;
+
+          if (between && (indexSize == 0 || next - indexRounds[indexSize - 1] >= INDEX_INTERVAL)) {
+            addIndex(next, s, start);
+          }
+
+          p += HandJournal.SHOE_SIZE;
+          start = p;
+        } else if (type == HandJournal.COMPOSITION) {
+          p += HandJournal.COMPOSITION_SIZE;
+        } else if (type == HandJournal.ROUND) {
+          p += buffer.getShort(p + 1) & 0xffff;
+          start = p;
+          next++;
+        } else {
+          break;
+        }
+      }
+    }
+  }
+
+  private void addIndex(long next, int s, int p) {
+    if (indexSize == indexRounds.length) {
+      indexRounds = Arrays.copyOf(indexRounds, indexSize * 2);
+      indexSegments = Arrays.copyOf(indexSegments, indexSize * 2);
+      indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+    }
+
+    indexRounds[indexSize] = next;
+    indexSegments[indexSize] = s;
+    indexPositions[indexSize] = p;
+    indexSize++;
+  }
+
+  // Positions the replay so that the following next() replays the given round.
+  public void seek(long target) throws IOException {
+    if (indexRounds == null) {
+      buildIndex();
+    }
+
+    int entry = -1;
+    int low = 0;
+    int high = indexSize - 1;
+
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+
+      if (indexRounds[middle] <= target) {
+        entry = middle;
+        low = middle + 1;
+      } else {
+        high = middle - 1;
+      }
+    }
+
+    if (entry < 0) {
+      throw new IllegalArgumentException("No recorded shoe before round " + target);
+    }
+
+    segmentIndex = indexSegments[entry];
+    segment = HandJournal.map(segments.get(segmentIndex));
+    position = indexPositions[entry];
+    round = indexRounds[entry] - 1;
+    seeds.clear();
+
+    while (round < target - 1) {
+      if (!next()) {
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.example;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Drops the least recently used entry once it holds more than maxSize; wrap it with
+// Collections.synchronizedMap() to share it between threads.
+class LruCache<K, V> extends LinkedHashMap<K, V> {
+  private static final long serialVersionUID = 1L;
+  private final int maxSize;
+
+  LruCache(int maxSize) {
+    super(16, 0.75f, true);
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+    return size() > maxSize;
+  }
+}
@@ -1,7 +1,21 @@
 package com.example;
 
+import java.nio.file.Path;
+
 public class Main {
+  private static final int DEFAULT_PORT = 4000;
+
   public static void main(String[] args) {
+    if (args.length > 0 && args[0].equals("--server")) {
+      GameServer.run(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT);
+      return;
+    }
+
+    if (args.length > 1 && args[0].equals("--history")) {
+      Game.run(Path.of(args[1]));
+      return;
+    }
+
     Game.run();
   }
 }
@@ -7,19 +7,20 @@ public class PlayerHand extends Hand {
   private HandStatus status;
   private boolean paid;
 
-  public PlayerHand(Game game) {
-    super(game);
+  public PlayerHand(RoundEngine engine) {
+    super(engine);
 
-    this.bet = game.getCurrentBet();
+    this.bet = engine.getCurrentBet();
     this.status = HandStatus.UNKNOWN;
     this.paid = false;
   }
 
   @Override
-  public PlayerHand clone() {
-    PlayerHand cloned = (PlayerHand) super.clone();
-    cloned.game = this.game;
-    return cloned;
+  public void reset() {
+    super.reset();
+    bet = engine.getCurrentBet();
+    status = HandStatus.UNKNOWN;
+    paid = false;
   }
 
   public ArrayList<Card> getCards() {
@@ -34,6 +35,10 @@ public class PlayerHand extends Hand {
     this.bet = bet;
   }
 
+  public HandStatus getStatus() {
+    return status;
+  }
+
   public void setStatus(HandStatus status) {
     this.status = status;
   }
@@ -52,39 +57,44 @@ public class PlayerHand extends Hand {
 
   @Override
   public String toString() {
-    StringBuilder out = new StringBuilder(" ");
+    FrameBuffer frame = new FrameBuffer(256);
+    frame.setFaceType(engine.getFaceType());
+    draw(frame);
+    return frame.toString();
+  }
+
+  public void draw(FrameBuffer frame) {
+    frame.append((byte) ' ');
 
-    for (Card c : cards) {
-      out.append(game.cardFace(c.value(), c.suit())).append(" ");
+    for (int i = 0; i < cards.size(); i++) {
+      frame.appendCard(cards.get(i)).append((byte) ' ');
     }
 
-    out.append(" ⇒  ").append(getValue(CountMethod.SOFT)).append(" ");
+    frame.append(" ⇒  ").appendInt(getValue(CountMethod.SOFT)).append((byte) ' ');
 
     if (status == HandStatus.LOST) {
-      out.append("-");
+      frame.append((byte) '-');
     } else if (status == HandStatus.WON) {
-      out.append("+");
+      frame.append((byte) '+');
     }
 
-    out.append("$").append(String.format("%.2f", bet / 100.0));
+    frame.append((byte) '$').appendMoney(bet);
 
-    if (!played && this.equals(game.getPlayerHands().get(game.getCurrentHand()))) {
-      out.append(" ⇐");
+    if (!played && this.equals(engine.getPlayerHands().get(engine.getCurrentHand()))) {
+      frame.append(" ⇐");
     }
 
-    out.append(" ");
+    frame.append((byte) ' ');
 
     if (status == HandStatus.LOST) {
-      out.append(isBusted() ? "Busted!" : "Lose!");
+      frame.append(isBusted() ? "Busted!" : "Lose!");
     } else if (status == HandStatus.WON) {
-      out.append(isBlackjack() ? "Blackjack!" : "Win!");
+      frame.append(isBlackjack() ? "Blackjack!" : "Win!");
     } else if (status == HandStatus.PUSH) {
-      out.append("Push!");
+      frame.append("Push!");
     }
 
-    out.append("\n\n");
-
-    return out.toString();
+    frame.append("\n\n");
   }
 
   public int getValue(CountMethod countMethod) {
@@ -99,7 +109,7 @@ public class PlayerHand extends Hand {
     if (played && !paid && isBusted()) {
       paid = true;
       status = HandStatus.LOST;
-      game.setMoney(game.getMoney() - bet);
+      engine.setMoney(engine.getMoney() - bet);
     }
 
     return played;
@@ -110,7 +120,7 @@ public class PlayerHand extends Hand {
       return false;
     } else if (cards.size() != 2) {
       return false;
-    } else if (game.getPlayerHands().size() >= Game.MAX_PLAYER_HANDS) {
+    } else if (engine.getPlayerHands().size() >= RoundEngine.MAX_PLAYER_HANDS) {
       return false;
     } else if (cannotCoverBet()) {
       return false;
@@ -132,19 +142,11 @@ public class PlayerHand extends Hand {
   }
 
   private boolean cannotCoverBet() {
-    return game.getMoney() < game.allBets() + bet;
+    return engine.getMoney() < engine.allBets() + bet;
   }
 
   public void hit() {
     dealCard();
-
-    if (isDone()) {
-      process();
-      return;
-    }
-
-    game.drawHands();
-    game.getPlayerHands().get(game.getCurrentHand()).getAction();
   }
 
   public void dbl() {
@@ -152,71 +154,10 @@ public class PlayerHand extends Hand {
 
     played = true;
     bet *= 2;
-
-    if (isDone()) {
-      process();
-    }
   }
 
   public void stand() {
     stood = true;
     played = true;
-
-    if (game.moreHandsToPlay()) {
-      game.playMoreHands();
-      return;
-    }
-
-    game.playDealerHand();
-    game.drawHands();
-    game.betOptions();
-  }
-
-  public void process() {
-    if (game.moreHandsToPlay()) {
-      game.playMoreHands();
-      return;
-    }
-
-    game.playDealerHand();
-    game.drawHands();
-    game.betOptions();
-  }
-
-  public void getAction() {
-    StringBuilder out = new StringBuilder(" ");
-    out.append("(H) Hit  (S) Stand  ");
-
-    if (canSplit()) {
-      out.append("(P) Split  ");
-    }
-    if (canDbl()) {
-      out.append("(D) Double");
-    }
-
-    System.out.println(out);
-
-    switch (game.getChar()) {
-      case 'h':
-        hit();
-        return;
-      case 's':
-        stand();
-        return;
-      case 'p':
-        if (canSplit()) {
-          game.splitCurrentHand();
-          return;
-        }
-        break;
-      case 'd':
-        if (canDbl()) {
-          dbl();
-          return;
-        }
-    }
-
-    game.drawHands();
-    getAction();
   }
 }
@@ -0,0 +1,400 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.random.RandomGenerator;
+
+public class RoundEngine {
+  public static final int MAX_PLAYER_HANDS = 7;
+  public static final int INSURANCE_OFFERED = 1;
+  public static final int INSURANCE_TAKEN = 2;
+  private static final Action[] ACTIONS = Action.values();
+  // Each hand hits at most once per point of hard total below 21 and ends with one more action,
+  // and each split adds one.
+  private static final int MAX_ACTIONS = MAX_PLAYER_HANDS * 21;
+  private final Shoe shoe;
+  private final ArrayList<PlayerHand> playerHands;
+  private final PlayerHand[] handPool = new PlayerHand[MAX_PLAYER_HANDS];
+  private int numDecks;
+  private int deckType;
+  private Composition composition;
+  private int money;
+  private int currentBet;
+  private DealerHand dealerHand;
+  private int currentHand;
+  private HandJournal journal;
+  private boolean playing;
+  private final byte[] actions = new byte[MAX_ACTIONS];
+  private int actionCount;
+  private int insurance;
+
+  public RoundEngine(Rules rules) {
+    this(rules, Shoe.newRandom());
+  }
+
+  public RoundEngine(Rules rules, long seed) {
+    this(rules, Shoe.newRandom(seed));
+  }
+
+  public RoundEngine(Rules rules, RandomGenerator random) {
+    this.shoe = newShoe(rules, random);
+    this.numDecks = rules.numDecks();
+    this.deckType = rules.deckType();
+    this.composition = rules.composition();
+    this.money = 10000;
+    this.currentBet = 500;
+    this.playerHands = new ArrayList<>(MAX_PLAYER_HANDS);
+
+    // Every hand a round can need is built with the table, so that no round has to allocate one.
+    for (int i = 0; i < handPool.length; i++) {
+      handPool[i] = new PlayerHand(this);
+    }
+  }
+
+  // Shoes beyond what a table deals are only ever sampled from their counts, never laid out card by card.
+  private Shoe newShoe(Rules rules, RandomGenerator random) {
+    boolean counted = rules.numDecks() == Rules.INFINITE_DECKS || rules.numDecks() > Shoe.MAX_TABLE_DECKS;
+    Shoe shoe = counted ? new CountedShoe(this, random) : new Shoe(this, random);
+    shoe.setPenetration(rules.penetration());
+    return shoe;
+  }
+
+  public int getNumDecks() {
+    return numDecks;
+  }
+
+  public void setNumDecks(int numDecks) {
+    this.numDecks = numDecks;
+  }
+
+  public int getDeckType() {
+    return deckType;
+  }
+
+  public void setDeckType(int deckType) {
+    this.deckType = deckType;
+  }
+
+  public Composition getComposition() {
+    return composition;
+  }
+
+  // Switches the table to the composition's deck type; a custom one is dealt as Composition.CUSTOM.
+  public void setComposition(Composition composition) {
+    this.composition = composition;
+    this.deckType = composition.getDeckType();
+  }
+
+  public HandJournal getJournal() {
+    return journal;
+  }
+
+  public void setJournal(HandJournal journal) {
+    if (journal != null && shoe instanceof CountedShoe) {
+      throw new IllegalStateException("A counted shoe cannot be journaled");
+    }
+
+    this.journal = journal;
+  }
+
+  public boolean isPlaying() {
+    return playing;
+  }
+
+  public int getActionCount() {
+    return actionCount;
+  }
+
+  public Action getAction(int index) {
+    return ACTIONS[actions[index]];
+  }
+
+  public int getInsurance() {
+    return insurance;
+  }
+
+  // Plain faces by default; Game lets the player pick the card glyphs.
+  public int getFaceType() {
+    return 1;
+  }
+
+  public String cardFace(int value, int suit) {
+    return (getFaceType() == 2 ? Card.FACES2 : Card.FACES)[value][suit];
+  }
+
+  public int getCurrentHand() {
+    return currentHand;
+  }
+
+  public boolean moreHandsToPlay() {
+    return currentHand < playerHands.size() - 1;
+  }
+
+  public ArrayList<PlayerHand> getPlayerHands() {
+    return playerHands;
+  }
+
+  public DealerHand getDealerHand() {
+    return dealerHand;
+  }
+
+  // Hands are reused from round to round; the hands in play are always the first ones in the pool.
+  private PlayerHand pooledHand() {
+    int index = playerHands.size();
+
+    if (index >= handPool.length) {
+      throw new IllegalStateException("No more than " + MAX_PLAYER_HANDS + " hands can be played at once");
+    }
+
+    PlayerHand playerHand = handPool[index];
+    playerHand.reset();
+    return playerHand;
+  }
+
+  public void splitCurrentHand() {
+    PlayerHand currentPlayerHand = getPlayerHands().get(currentHand);
+    PlayerHand splitHand = pooledHand();
+
+    splitHand.setBet(currentPlayerHand.getBet());
+    splitHand.addCard(currentPlayerHand.removeCard(1));
+    getPlayerHands().add(currentHand + 1, splitHand);
+
+    currentPlayerHand.dealCard();
+  }
+
+  public int allBets() {
+    int bets = 0;
+
+    for (int i = 0; i < playerHands.size(); i++) {
+      bets += playerHands.get(i).getBet();
+    }
+
+    return bets;
+  }
+
+  public int getMoney() {
+    return money;
+  }
+
+  public void setMoney(int money) {
+    this.money = money;
+  }
+
+  public int getCurrentBet() {
+    return currentBet;
+  }
+
+  public void setCurrentBet(int currentBet) {
+    this.currentBet = currentBet;
+  }
+
+  public Shoe getShoe() {
+    return shoe;
+  }
+
+  protected void normalizeBet() {
+    if (this.currentBet > money) {
+      this.currentBet = money;
+    }
+  }
+
+  public void insureHand() {
+    PlayerHand playerHand = getPlayerHands().get(currentHand);
+    playerHand.setBet(playerHand.getBet() / 2);
+    playerHand.setPlayed(true);
+    playerHand.setPaid(true);
+    playerHand.setStatus(HandStatus.LOST);
+    money -= playerHand.getBet();
+  }
+
+  public void payHands() {
+    int dealerHandValue = dealerHand.getValue(CountMethod.SOFT);
+    boolean dealerHandBusted = dealerHand.isBusted();
+
+    for (int i = 0; i < playerHands.size(); i++) {
+      PlayerHand playerHand = playerHands.get(i);
+
+      if (playerHand.isPaid()) {
+        continue;
+      }
+
+      playerHand.setPaid(true);
+      int playerHandValue = playerHand.getValue(CountMethod.SOFT);
+
+      if (dealerHandBusted || playerHandValue > dealerHandValue) {
+        if (playerHand.isBlackjack()) {
+          playerHand.setBet((int) (playerHand.getBet() * 1.5));
+        }
+
+        money += playerHand.getBet();
+        playerHand.setStatus(HandStatus.WON);
+
+      } else if (playerHandValue < dealerHandValue) {
+        money -= playerHand.getBet();
+        playerHand.setStatus(HandStatus.LOST);
+
+      } else {
+        playerHand.setStatus(HandStatus.PUSH);
+      }
+    }
+
+    normalizeBet();
+  }
+
+  public boolean needToPlayDealerHand() {
+    for (int i = 0; i < playerHands.size(); i++) {
+      PlayerHand playerHand = playerHands.get(i);
+
+      if (!(playerHand.isBusted() || playerHand.isBlackjack())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  public void playDealerHand() {
+    if (dealerHand.isBlackjack()) {
+      dealerHand.setHideDownCard(false);
+    }
+
+    if (!needToPlayDealerHand()) {
+      dealerHand.setPlayed(true);
+      payHands();
+      return;
+    }
+
+    dealerHand.setHideDownCard(false);
+
+    int softCount = dealerHand.getValue(CountMethod.SOFT);
+    int hardCount = dealerHand.getValue(CountMethod.HARD);
+
+    while (softCount < 18 && hardCount < 17) {
+      dealerHand.dealCard();
+      softCount = dealerHand.getValue(CountMethod.SOFT);
+      hardCount = dealerHand.getValue(CountMethod.HARD);
+    }
+
+    dealerHand.setPlayed(true);
+
+    payHands();
+  }
+
+  public void deal() {
+    if (getShoe().needToShuffle()) {
+      getShoe().buildNewShoe(deckType);
+    }
+
+    playerHands.clear();
+    playerHands.add(pooledHand());
+    currentHand = 0;
+
+    if (dealerHand == null) {
+      dealerHand = new DealerHand(this);
+    }
+
+    dealerHand.reset();
+
+    for (int i = 0; i < 2; i++) {
+      playerHands.get(0).dealCard();
+      dealerHand.dealCard();
+    }
+  }
+
+  public void play(Decider decider) {
+    int moneyBefore = money;
+    int bet = currentBet;
+
+    // Shuffle before the round starts so the journal can tell it from a mid-round reshuffle.
+    if (getShoe().needToShuffle()) {
+      getShoe().buildNewShoe(deckType);
+    }
+
+    actionCount = 0;
+    insurance = 0;
+    playing = true;
+
+    try {
+      playRound(decider);
+    } finally {
+      playing = false;
+    }
+
+    if (journal != null) {
+      journal.recordRound(this, moneyBefore, bet);
+    }
+  }
+
+  private void playRound(Decider decider) {
+    deal();
+
+    if (dealerHand.upcardIsAce()) {
+      insurance = INSURANCE_OFFERED;
+
+      if (decider.takeInsurance(this)) {
+        insurance |= INSURANCE_TAKEN;
+        insureHand();
+        return;
+      }
+
+      if (dealerHand.isBlackjack()) {
+        dealerHand.setHideDownCard(false);
+        dealerHand.setPlayed(true);
+        payHands();
+        return;
+      }
+    } else if (playerHands.get(0).isDone()) {
+      dealerHand.setHideDownCard(false);
+      payHands();
+      return;
+    }
+
+    playPlayerHands(decider);
+    playDealerHand();
+  }
+
+  public void playPlayerHands(Decider decider) {
+    while (true) {
+      PlayerHand playerHand = playerHands.get(currentHand);
+
+      while (!playerHand.isDone()) {
+        Action action = decider.getAction(this, playerHand);
+        recordAction(action);
+        applyAction(playerHand, action);
+      }
+
+      if (!moreHandsToPlay()) {
+        return;
+      }
+
+      currentHand++;
+      playerHands.get(currentHand).dealCard();
+    }
+  }
+
+  private void recordAction(Action action) {
+    actions[actionCount++] = (byte) action.ordinal();
+  }
+
+  public void applyAction(PlayerHand playerHand, Action action) {
+    switch (action) {
+      case HIT:
+        playerHand.hit();
+        break;
+      case STAND:
+        playerHand.stand();
+        break;
+      case SPLIT:
+        if (!playerHand.canSplit()) {
+          throw new IllegalStateException("Cannot split hand " + currentHand);
+        }
+        splitCurrentHand();
+        break;
+      case DOUBLE:
+        if (!playerHand.canDbl()) {
+          throw new IllegalStateException("Cannot double hand " + currentHand);
+        }
+        playerHand.dbl();
+        break;
+    }
+  }
+}
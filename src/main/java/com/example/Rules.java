@@ -0,0 +1,19 @@
+package com.example;
+
+// A penetration of zero keeps the usual cut for the deck count. The composition is only
+// consulted when the deck type is Composition.CUSTOM.
+public record Rules(int numDecks, int deckType, int penetration, Composition composition) {
+  public static final int INFINITE_DECKS = 0;
+
+  public Rules(int numDecks, int deckType) {
+    this(numDecks, deckType, 0);
+  }
+
+  public Rules(int numDecks, int deckType, int penetration) {
+    this(numDecks, deckType, penetration, null);
+  }
+
+  public Rules(int numDecks, Composition composition) {
+    this(numDecks, composition.getDeckType(), 0, composition);
+  }
+}
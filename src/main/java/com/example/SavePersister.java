@@ -0,0 +1,97 @@
+package com.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class SavePersister {
+  private final Path file;
+  private final Path temp;
+  private final Consumer<IOException> onError;
+  private final AtomicReference<String> pending = new AtomicReference<>();
+  private final ThreadPoolExecutor executor;
+  private volatile long writes;
+
+  public SavePersister(Path file, Consumer<IOException> onError) {
+    this.file = file.toAbsolutePath();
+    this.temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+    this.onError = onError;
+    this.executor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+      Thread thread = new Thread(task, "save-" + this.file.getFileName());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  public long getWrites() {
+    return writes;
+  }
+
+  // Only the newest state matters, so a save queued behind a pending one just replaces it.
+  public void save(String data) {
+    if (pending.getAndSet(data) == null) {
+      executor.execute(this::write);
+    }
+  }
+
+  public void flush() {
+    try {
+      executor.submit(() -> {
+      }).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private void write() {
+    String data = pending.getAndSet(null);
+
+    if (data == null) {
+      return;
+    }
+
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+
+        channel.force(true);
+      }
+
+      Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      syncDirectory();
+      writes++;
+    } catch (IOException e) {
+      onError.accept(e);
+    }
+  }
+
+  // Makes the rename itself durable; not every platform can open a directory, which is fine.
+  private void syncDirectory() {
+    try (FileChannel channel = FileChannel.open(file.getParent(), StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException ignored) {
+    }
+  }
+}
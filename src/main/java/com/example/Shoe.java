@@ -1,117 +1,262 @@
 package com.example;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 public class Shoe {
+  public static final int MAX_TABLE_DECKS = 8;
   private static final int[] SHUFFLE_SPECS = {80, 81, 82, 84, 86, 89, 92, 95};
-  private static final int CARDS_PER_DECK = 52;
-  private final Game game;
-  private final ArrayList<Card> cards;
+  private static final String RANDOM_ALGORITHM = "L64X128MixRandom";
+  private static final RandomGeneratorFactory<RandomGenerator> FACTORY = RandomGeneratorFactory.of(RANDOM_ALGORITHM);
+  protected final RoundEngine engine;
+  protected final RandomGenerator random;
+  private long seed;
+  private final int[] remainingRanks;
+  private int[] cards;
+  protected int size;
+  protected int position;
+  private int penetration;
+  private final ShuffleRandom shuffler = new ShuffleRandom();
+  private int remainingCards;
+  private int deckSize;
+  private int runningCount;
+  private CardCounter counter;
+  private ShoePreparer preparer;
+  private CompletableFuture<Prepared> next;
+  private int[] spare;
 
-  public Shoe(Game game) {
-    this.game = game;
-    this.cards = new ArrayList<>();
+  // A shoe composed and shuffled from its seed, ready to be swapped in. The ranks are shared, never written.
+  public record Prepared(Composition composition, int numDecks, long seed, int[] cards, int[] ranks) {
+  }
+
+  public Shoe(RoundEngine engine) {
+    this(engine, newRandom());
+  }
+
+  public Shoe(RoundEngine engine, long seed) {
+    this(engine, newRandom(seed));
+  }
+
+  public Shoe(RoundEngine engine, RandomGenerator random) {
+    this.engine = engine;
+    this.random = random;
+    this.remainingRanks = new int[10];
+    this.cards = new int[0];
+  }
+
+  public static RandomGenerator newRandom() {
+    return FACTORY.create();
+  }
+
+  public static RandomGenerator newRandom(long seed) {
+    return FACTORY.create(seed);
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public int getPenetration() {
+    return penetration;
+  }
+
+  // The percentage of the shoe dealt before it is reshuffled; zero keeps the table's usual cut for the deck count.
+  public void setPenetration(int penetration) {
+    this.penetration = penetration;
+  }
+
+  protected int penetration() {
+    if (penetration > 0) {
+      return penetration;
+    }
+
+    return SHUFFLE_SPECS[Math.min(Math.max(engine.getNumDecks(), 1), SHUFFLE_SPECS.length) - 1];
+  }
+
+  // The first cursor position at which needToShuffle() asks for a new shoe.
+  public int getCut() {
+    return (int) ((long) size * penetration() / 100) + 1;
+  }
+
+  public int getPosition() {
+    return position;
   }
 
   public boolean needToShuffle() {
-    if (cards.isEmpty()) {
+    if (position >= size) {
       return true;
     }
 
-    int totalCards = getTotalCards();
-    int cardsDealt = totalCards - cards.size();
-    double used = (cardsDealt / (double) totalCards) * 100.0;
+    double used = (position / (double) size) * 100.0;
 
-    return used > SHUFFLE_SPECS[game.getNumDecks() - 1];
+    return used > penetration();
   }
 
-  public void shuffle() {
-    for (int i = 0; i < 7; i++) {
-      Collections.shuffle(cards);
+  private static void shuffle(int[] cards, RandomGenerator random) {
+    for (int i = cards.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int card = cards[i];
+      cards[i] = cards[j];
+      cards[j] = card;
     }
   }
 
-  public Card getNextCard() {
-    return cards.isEmpty() ? null : cards.remove(0);
+  public int[] getRemainingRanks() {
+    return remainingRanks.clone();
   }
 
-  public void buildNewShoe(int deckType) {
-    switch (deckType) {
-      case 2:
-        newAces();
-        break;
-      case 3:
-        newJacks();
-        break;
-      case 4:
-        newAcesJacks();
-        break;
-      case 5:
-        newSevens();
-        break;
-      case 6:
-        newEights();
-        break;
-      default:
-        newRegular();
-        break;
-    }
+  public int getRemainingCards() {
+    return remainingCards;
+  }
 
-    shuffle();
+  public int getRunningCount() {
+    return runningCount;
   }
 
-  public int getTotalCards() {
-    return game.getNumDecks() * CARDS_PER_DECK;
+  public double getTrueCount() {
+    if (remainingCards == 0) {
+      return runningCount;
+    }
+
+    return runningCount * deckSize / (double) remainingCards;
   }
 
-  private void newShoe(List<Integer> values) {
-    int totalCards = getTotalCards();
-    cards.clear();
+  public CardCounter getCounter() {
+    return counter;
+  }
 
-    while (cards.size() < totalCards) {
-      for (int deck = 0; deck < game.getNumDecks(); deck++) {
-        for (int suit = 0; suit < 4; suit++) {
-          if (cards.size() >= totalCards) {
-            break;
-          }
+  public void setCounter(CardCounter counter) {
+    this.counter = counter;
+  }
 
-          for (int value : values) {
-            cards.add(new Card(value, suit));
-          }
-        }
-      }
+  public Card getNextCard() {
+    if (position >= size) {
+      return null;
     }
+
+    Card card = Card.of(cards[position++]);
+    count(card, 1);
+
+    return card;
   }
 
-  private void newRegular() {
-    List<Integer> range = new ArrayList<>();
+  public void hideCard(Card card) {
+    count(card, -1);
+  }
+
+  public void revealCard(Card card) {
+    count(card, 1);
+  }
 
-    for (int i = 0; i < 13; i++) {
-      range.add(i);
+  protected void count(Card card, int seen) {
+    int rank = card.rank();
+    remainingRanks[rank] -= seen;
+    remainingCards -= seen;
+    runningCount += seen * CountSystem.HI_LO.tag(rank);
+
+    if (counter != null) {
+      counter.count(card, seen);
     }
+  }
+
+  public ShoePreparer getPreparer() {
+    return preparer;
+  }
 
-    newShoe(range);
+  public void setPreparer(ShoePreparer preparer) {
+    this.preparer = preparer;
   }
 
-  private void newAces() {
-    newShoe(List.of(0));
+  public static Prepared prepare(Composition composition, int numDecks, long seed, int[] recycled) {
+    Composition.Template template = composition.template(numDecks);
+    int[] cards = compose(template, seed, recycled, new ShuffleRandom());
+
+    return new Prepared(composition, numDecks, seed, cards, template.ranks());
+  }
+
+  // Each shoe is shuffled from its own seed so a journal can rebuild it from eight bytes.
+  private static int[] compose(Composition.Template template, long seed, int[] recycled, ShuffleRandom shuffler) {
+    int totalCards = template.cards().length;
+    int[] cards = recycled != null && recycled.length == totalCards ? recycled : new int[totalCards];
+
+    System.arraycopy(template.cards(), 0, cards, 0, totalCards);
+    shuffler.setSeed(seed);
+    shuffle(cards, shuffler);
+
+    return cards;
+  }
+
+  // A custom composition is the table's own; any other deck type is one of the fixed shoes.
+  protected Composition composition(int deckType) {
+    Composition composition = engine.getComposition();
+
+    if (composition != null && composition.getDeckType() == deckType) {
+      return composition;
+    }
+
+    return Composition.of(deckType);
   }
 
-  private void newJacks() {
-    newShoe(List.of(10));
+  public void buildNewShoe(int deckType) {
+    Composition composition = composition(deckType);
+    int numDecks = engine.getNumDecks();
+
+    // Built in place on this thread, a shoe allocates nothing once its card array has the right size.
+    if (next == null || !takePrepared(composition, numDecks)) {
+      Composition.Template template = composition.template(numDecks);
+      long seed = random.nextLong();
+      cards = compose(template, seed, cards, shuffler);
+      reset(seed, cards.length, template.ranks(), composition.getDeckSize());
+    }
+
+    if (preparer != null) {
+      next = preparer.prepare(composition, numDecks, random.nextLong(), spare);
+      spare = null;
+    }
+
+    HandJournal journal = engine.getJournal();
+
+    if (journal != null) {
+      journal.recordShoe(seed, numDecks, composition, getCut(), engine.isPlaying());
+    }
   }
 
-  private void newAcesJacks() {
-    newShoe(List.of(0, 10));
+  // The deck size is the composition's, so the true count is per deck of that composition.
+  protected void reset(long seed, int size, int[] ranks, int deckSize) {
+    this.seed = seed;
+    this.size = size;
+    this.deckSize = deckSize;
+    this.position = 0;
+
+    System.arraycopy(ranks, 0, remainingRanks, 0, remainingRanks.length);
+    remainingCards = size;
+    runningCount = 0;
+
+    if (counter != null) {
+      counter.reset(deckSize);
+    }
   }
 
-  private void newSevens() {
-    newShoe(List.of(6));
+  // Switches to the shoe prepared in the background, unless the table has since changed its deck settings.
+  // Kept apart from buildNewShoe so that a table without a preparer never touches Prepared.
+  private boolean takePrepared(Composition composition, int numDecks) {
+    Prepared shoe = next.join();
+    next = null;
+
+    if (!shoe.composition().equals(composition) || shoe.numDecks() != numDecks) {
+      spare = shoe.cards();
+      return false;
+    }
+
+    spare = cards;
+    cards = shoe.cards();
+    reset(shoe.seed(), cards.length, shoe.ranks(), composition.getDeckSize());
+    return true;
   }
 
-  private void newEights() {
-    newShoe(List.of(7));
+  public int getTotalCards() {
+    return engine.getNumDecks() * composition(engine.getDeckType()).getDeckSize();
   }
 }
@@ -0,0 +1,28 @@
+package com.example;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+public class ShoePreparer {
+  private static final ShoePreparer SHARED = new ShoePreparer(Executors.newFixedThreadPool(
+      Math.max(1, Runtime.getRuntime().availableProcessors() / 2), task -> {
+        Thread thread = new Thread(task, "shoe-preparer");
+        thread.setDaemon(true);
+        return thread;
+      }));
+  private final Executor executor;
+
+  public ShoePreparer(Executor executor) {
+    this.executor = executor;
+  }
+
+  // One pool serves every table, so a server with many sessions does not grow a thread per game.
+  public static ShoePreparer shared() {
+    return SHARED;
+  }
+
+  public CompletableFuture<Shoe.Prepared> prepare(Composition composition, int numDecks, long seed, int[] recycled) {
+    return CompletableFuture.supplyAsync(() -> Shoe.prepare(composition, numDecks, seed, recycled), executor);
+  }
+}
@@ -0,0 +1,71 @@
+package com.example;
+
+import java.util.random.RandomGenerator;
+
+// The L64X128MixRandom algorithm with a seed that can be set again, so that one instance can
+// shuffle every shoe a table deals. It produces the same numbers as Shoe.newRandom(seed).
+public class ShuffleRandom implements RandomGenerator {
+  private static final long M = 0xd1342543de82ef95L;
+  private static final long GOLDEN_RATIO_64 = 0x9e3779b97f4a7c15L;
+  private static final long SILVER_RATIO_64 = 0x6a09e667f3bcc909L;
+  private long a;
+  private long s;
+  private long x0;
+  private long x1;
+
+  public ShuffleRandom() {
+    this(0);
+  }
+
+  public ShuffleRandom(long seed) {
+    setSeed(seed);
+  }
+
+  public void setSeed(long seed) {
+    seed ^= SILVER_RATIO_64;
+    a = mixMurmur64(seed) | 1;
+    s = 1;
+    x0 = mixStafford13(seed);
+    x1 = mixStafford13(seed + GOLDEN_RATIO_64);
+
+    if ((x0 | x1) == 0) {
+      x0 = GOLDEN_RATIO_64;
+      x1 = SILVER_RATIO_64;
+    }
+  }
+
+  @Override
+  public long nextLong() {
+    long result = mixLea64(s + x0);
+    s = M * s + a;
+
+    long q0 = x0;
+    long q1 = x1;
+    q1 ^= q0;
+    q0 = Long.rotateLeft(q0, 24);
+    q0 = q0 ^ q1 ^ (q1 << 16);
+    q1 = Long.rotateLeft(q1, 37);
+    x0 = q0;
+    x1 = q1;
+
+    return result;
+  }
+
+  private static long mixMurmur64(long z) {
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+
+  private static long mixStafford13(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static long mixLea64(long z) {
+    z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+    z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+    return z ^ (z >>> 32);
+  }
+}
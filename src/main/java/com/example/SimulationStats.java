@@ -0,0 +1,111 @@
+package com.example;
+
+public class SimulationStats {
+  private long rounds;
+  private long wagered;
+  private long net;
+  private long netSquared;
+  private double units;
+  private double unitsSquared;
+  private final double[] counts;
+  private final double[] countsSquared;
+  private final double[] countsByUnits;
+
+  public SimulationStats() {
+    this(0);
+  }
+
+  public SimulationStats(int systems) {
+    this.counts = new double[systems];
+    this.countsSquared = new double[systems];
+    this.countsByUnits = new double[systems];
+  }
+
+  public void addRound(int bet, int result) {
+    rounds++;
+    wagered += bet;
+    net += result;
+    netSquared += (long) result * result;
+  }
+
+  public void addRound(int bet, int result, double[] bettingCounts) {
+    addRound(bet, result);
+
+    double unit = result / (double) bet;
+    units += unit;
+    unitsSquared += unit * unit;
+
+    for (int i = 0; i < counts.length; i++) {
+      double count = bettingCounts[i];
+      counts[i] += count;
+      countsSquared[i] += count * count;
+      countsByUnits[i] += count * unit;
+    }
+  }
+
+  public void merge(SimulationStats other) {
+    rounds += other.rounds;
+    wagered += other.wagered;
+    net += other.net;
+    netSquared += other.netSquared;
+    units += other.units;
+    unitsSquared += other.unitsSquared;
+
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += other.counts[i];
+      countsSquared[i] += other.countsSquared[i];
+      countsByUnits[i] += other.countsByUnits[i];
+    }
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  public long getWagered() {
+    return wagered;
+  }
+
+  public long getNet() {
+    return net;
+  }
+
+  public long getNetSquared() {
+    return netSquared;
+  }
+
+  public double getHouseEdge() {
+    return wagered == 0 ? 0.0 : -net / (double) wagered;
+  }
+
+  public double getVariance() {
+    if (rounds == 0) {
+      return 0.0;
+    }
+
+    double mean = net / (double) rounds;
+    return netSquared / (double) rounds - mean * mean;
+  }
+
+  public double getMeanCount(int system) {
+    return rounds == 0 ? 0.0 : counts[system] / rounds;
+  }
+
+  public double getBettingCorrelation(int system) {
+    if (rounds == 0) {
+      return 0.0;
+    }
+
+    double meanCount = counts[system] / rounds;
+    double meanUnits = units / rounds;
+    double covariance = countsByUnits[system] / rounds - meanCount * meanUnits;
+    double countVariance = countsSquared[system] / rounds - meanCount * meanCount;
+    double unitsVariance = unitsSquared / rounds - meanUnits * meanUnits;
+
+    if (countVariance <= 0 || unitsVariance <= 0) {
+      return 0.0;
+    }
+
+    return covariance / Math.sqrt(countVariance * unitsVariance);
+  }
+}
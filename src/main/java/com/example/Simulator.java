@@ -0,0 +1,119 @@
+package com.example;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+public class Simulator {
+  public static final int ROUNDS_PER_TASK = 10000;
+  private static final int BANKROLL = 100000000;
+  private final Rules rules;
+  private final Supplier<Decider> deciders;
+  private final CountSystem[] systems;
+
+  public Simulator(Rules rules) {
+    this(rules, BasicStrategy::new);
+  }
+
+  public Simulator(Rules rules, Supplier<Decider> deciders, CountSystem... systems) {
+    this.rules = rules;
+    this.deciders = deciders;
+    this.systems = systems.clone();
+  }
+
+  public SimulationStats run(long rounds, long seed) {
+    return run(rounds, seed, ForkJoinPool.commonPool());
+  }
+
+  public SimulationStats run(long rounds, long seed, ForkJoinPool pool) {
+    return pool.invoke(new SimulationTask(0, rounds, new SplittableRandom(seed)));
+  }
+
+  private SimulationStats playRounds(long numRounds, SplittableRandom random) {
+    Table table = newTable(random);
+    table.play(numRounds);
+    return table.stats;
+  }
+
+  Table newTable(SplittableRandom random) {
+    return new Table(random);
+  }
+
+  // One engine and its bookkeeping; once warmed up, playing a round allocates nothing.
+  class Table {
+    private final RoundEngine engine;
+    private final Decider decider;
+    private final SimulationStats stats;
+    private final CardCounter counter;
+    private final double[] bettingCounts;
+
+    Table(SplittableRandom random) {
+      this.engine = new RoundEngine(rules, random);
+      this.decider = deciders.get();
+      this.stats = new SimulationStats(systems.length);
+      this.counter = new CardCounter(systems);
+      this.bettingCounts = new double[systems.length];
+
+      if (systems.length > 0) {
+        engine.getShoe().setCounter(counter);
+      }
+    }
+
+    RoundEngine getEngine() {
+      return engine;
+    }
+
+    SimulationStats getStats() {
+      return stats;
+    }
+
+    void play(long numRounds) {
+      Shoe shoe = engine.getShoe();
+
+      for (long i = 0; i < numRounds; i++) {
+        boolean shuffling = shoe.needToShuffle();
+
+        for (int system = 0; system < systems.length; system++) {
+          bettingCounts[system] = shuffling ? 0.0 : counter.getBettingCount(system, shoe.getRemainingCards());
+        }
+
+        engine.setMoney(BANKROLL);
+        engine.play(decider);
+        stats.addRound(engine.getCurrentBet(), engine.getMoney() - BANKROLL, bettingCounts);
+      }
+    }
+  }
+
+  private class SimulationTask extends RecursiveTask<SimulationStats> {
+    private static final long serialVersionUID = 1L;
+    private final long from;
+    private final long to;
+    private final SplittableRandom random;
+
+    SimulationTask(long from, long to, SplittableRandom random) {
+      this.from = from;
+      this.to = to;
+      this.random = random;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+      if (to - from <= ROUNDS_PER_TASK) {
+        return playRounds(to - from, random);
+      }
+
+      long tasks = (to - from + ROUNDS_PER_TASK - 1) / ROUNDS_PER_TASK;
+      long middle = from + (tasks / 2) * ROUNDS_PER_TASK;
+      SimulationTask left = new SimulationTask(from, middle, random.split());
+      SimulationTask right = new SimulationTask(middle, to, random);
+
+      left.fork();
+      SimulationStats stats = right.compute();
+      SimulationStats leftStats = left.join();
+      leftStats.merge(stats);
+
+      return leftStats;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.example;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+public class TerminalRenderer {
+  private static final String CLEAR = "\033[H\033[2J";
+  private static final String ERASE_LINE = "\033[K";
+  private static final String ERASE_BELOW = "\033[J";
+  private final PrintStream out;
+  private final boolean diff;
+  private final FrameBuffer previous = new FrameBuffer();
+  private final FrameBuffer output = new FrameBuffer();
+  private final FrameBuffer text = new FrameBuffer();
+  private int[] starts = new int[64];
+  private int[] previousStarts = new int[64];
+  private int lines;
+  private int previousLines;
+
+  public TerminalRenderer(PrintStream out) {
+    this(out, true);
+  }
+
+  public TerminalRenderer(PrintStream out, boolean diff) {
+    this.out = out;
+    this.diff = diff;
+  }
+
+  public boolean isDiff() {
+    return diff;
+  }
+
+  public void reset() {
+    previousLines = 0;
+  }
+
+  public void render(CharSequence frame) {
+    text.reset();
+    render(text.append(frame));
+  }
+
+  // The last line is the one left open for the prompt; it and everything below it are
+  // cleared and rewritten on every frame since the prompt and echoed input live there.
+  public void render(FrameBuffer frame) {
+    indexLines(frame);
+    output.reset();
+
+    if (!diff || previousLines == 0) {
+      output.append(CLEAR).append(frame.getBytes(), 0, frame.length());
+    } else {
+      int last = lines - 1;
+
+      for (int i = 0; i < last; i++) {
+        int start = starts[i];
+        int end = starts[i + 1] - 1;
+
+        if (i >= previousLines - 1 || !frame.regionEquals(start, end, previous, previousStarts[i], previousStarts[i + 1] - 1)) {
+          moveTo(i).append(frame.getBytes(), start, end - start).append(ERASE_LINE);
+        }
+      }
+
+      moveTo(last).append(ERASE_BELOW).append(frame.getBytes(), starts[last], frame.length() - starts[last]);
+    }
+
+    output.writeTo(out);
+
+    previous.reset();
+    previous.append(frame.getBytes(), 0, frame.length());
+
+    int[] swap = previousStarts;
+    previousStarts = starts;
+    starts = swap;
+    previousLines = lines;
+  }
+
+  // starts[i] is where line i begins; one past the end is kept as a sentinel for the last line.
+  private void indexLines(FrameBuffer frame) {
+    byte[] bytes = frame.getBytes();
+    lines = 0;
+    add(0);
+
+    for (int i = 0; i < frame.length(); i++) {
+      if (bytes[i] == '\n') {
+        add(i + 1);
+      }
+    }
+
+    starts[lines] = frame.length() + 1;
+  }
+
+  private void add(int start) {
+    if (lines + 1 >= starts.length) {
+      starts = Arrays.copyOf(starts, starts.length * 2);
+    }
+
+    starts[lines++] = start;
+  }
+
+  private FrameBuffer moveTo(int line) {
+    return output.append("\033[").appendInt(line + 1).append((byte) 'H');
+  }
+}
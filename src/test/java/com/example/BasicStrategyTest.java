@@ -0,0 +1,103 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicStrategyTest {
+  private final BasicStrategy strategy = new BasicStrategy();
+  private DealerHand dealerHand;
+  private RoundEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    engine = new RoundEngine(new Rules(6, 1)) {
+      @Override
+      public DealerHand getDealerHand() {
+        return dealerHand;
+      }
+    };
+  }
+
+  private Action decide(int upcard, int... values) {
+    dealerHand = new DealerHand(engine);
+    dealerHand.addCard(Card.of(upcard, 0));
+    dealerHand.addCard(Card.of(12, 0));
+
+    PlayerHand playerHand = new PlayerHand(engine);
+    for (int i = 0; i < values.length; i++) {
+      playerHand.addCard(Card.of(values[i], i % 4));
+    }
+    engine.getPlayerHands().clear();
+    engine.getPlayerHands().add(playerHand);
+
+    return strategy.getAction(engine, playerHand);
+  }
+
+  @Test
+  @DisplayName("hard totals should hit, stand or double from the table")
+  void testHardTotals() {
+    assertEquals(Action.HIT, decide(9, 2, 5));
+    assertEquals(Action.DOUBLE, decide(5, 4, 5));
+    assertEquals(Action.DOUBLE, decide(8, 5, 4));
+    assertEquals(Action.HIT, decide(9, 5, 4));
+    assertEquals(Action.STAND, decide(3, 9, 1));
+    assertEquals(Action.HIT, decide(1, 9, 1));
+    assertEquals(Action.STAND, decide(5, 9, 3));
+    assertEquals(Action.HIT, decide(6, 9, 5));
+    assertEquals(Action.STAND, decide(0, 9, 6));
+  }
+
+  @Test
+  @DisplayName("soft totals should use the soft table")
+  void testSoftTotals() {
+    assertEquals(Action.DOUBLE, decide(4, 0, 5));
+    assertEquals(Action.HIT, decide(9, 0, 5));
+    assertEquals(Action.DOUBLE, decide(1, 0, 6));
+    assertEquals(Action.STAND, decide(6, 0, 6));
+    assertEquals(Action.HIT, decide(8, 0, 6));
+    assertEquals(Action.STAND, decide(9, 0, 7));
+  }
+
+  @Test
+  @DisplayName("pairs should split when the table says so and the hand can split")
+  void testPairs() {
+    assertEquals(Action.SPLIT, decide(0, 0, 0));
+    assertEquals(Action.SPLIT, decide(0, 7, 7));
+    assertEquals(Action.HIT, decide(9, 7, 7));
+    assertEquals(Action.STAND, decide(6, 8, 8));
+    assertEquals(Action.STAND, decide(5, 9, 9));
+    assertEquals(Action.DOUBLE, decide(5, 4, 4));
+  }
+
+  @Test
+  @DisplayName("double should fall back to hit or stand when the hand cannot double")
+  void testDoubleFallback() {
+    assertEquals(Action.HIT, decide(5, 1, 2, 4));
+    assertEquals(Action.STAND, decide(3, 0, 2, 3));
+  }
+
+  @Test
+  @DisplayName("split should fall back to the hard table when the hand cannot split")
+  void testSplitFallback() {
+    engine.setMoney(500);
+
+    assertEquals(Action.HIT, decide(0, 7, 7));
+  }
+
+  @Test
+  @DisplayName("basic strategy should never take insurance")
+  void testTakeInsurance() {
+    assertFalse(strategy.takeInsurance(engine));
+  }
+
+  @Test
+  @DisplayName("basic strategy should give a small house edge in simulation")
+  void testSimulatedHouseEdge() {
+    SimulationStats stats = new Simulator(new Rules(6, 1)).run(200000, 3L);
+
+    assertTrue(Math.abs(stats.getHouseEdge()) < 0.02, "house edge " + stats.getHouseEdge());
+  }
+}
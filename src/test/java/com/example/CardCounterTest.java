@@ -0,0 +1,104 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCounterTest {
+  private CardCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    counter = new CardCounter(CountSystem.values());
+  }
+
+  private int index(CountSystem system) {
+    return system.ordinal();
+  }
+
+  @Test
+  @DisplayName("count should update every system from one card")
+  void testCount() {
+    counter.count(new Card(4, 0), 1);
+
+    assertEquals(1, counter.getRunningCount(index(CountSystem.HI_LO)));
+    assertEquals(1, counter.getRunningCount(index(CountSystem.KO)));
+    assertEquals(2, counter.getRunningCount(index(CountSystem.HI_OPT_II)));
+    assertEquals(2, counter.getRunningCount(index(CountSystem.OMEGA_II)));
+    assertEquals(2, counter.getRunningCount(index(CountSystem.ZEN)));
+  }
+
+  @Test
+  @DisplayName("count should tag faces like tens")
+  void testCountFaces() {
+    counter.count(new Card(12, 3), 1);
+
+    assertEquals(-1, counter.getRunningCount(index(CountSystem.HI_LO)));
+    assertEquals(-2, counter.getRunningCount(index(CountSystem.ZEN)));
+  }
+
+  @Test
+  @DisplayName("count should take a card back out when seen is negative")
+  void testUncount() {
+    counter.count(new Card(0, 0), 1);
+    counter.count(new Card(0, 0), -1);
+
+    for (int i = 0; i < counter.size(); i++) {
+      assertEquals(0, counter.getRunningCount(i));
+    }
+  }
+
+  @Test
+  @DisplayName("the shoe should drive the counter through a whole deck")
+  void testShoeCountsDeck() {
+    RoundEngine engine = new RoundEngine(new Rules(2, 1), 3L);
+    Shoe shoe = engine.getShoe();
+    shoe.setCounter(counter);
+    shoe.buildNewShoe(1);
+
+    while (shoe.getNextCard() != null) {
+      assertEquals(shoe.getRunningCount(), counter.getRunningCount(index(CountSystem.HI_LO)));
+    }
+
+    for (CountSystem system : CountSystem.values()) {
+      int expected = system.isBalanced() ? 0 : 8;
+      assertEquals(expected, counter.getRunningCount(index(system)), system.name());
+    }
+
+    shoe.buildNewShoe(1);
+
+    assertEquals(0, counter.getRunningCount(index(CountSystem.KO)));
+  }
+
+  @Test
+  @DisplayName("getBettingCount should use the true count only for balanced systems")
+  void testBettingCount() {
+    counter.count(new Card(1, 0), 1);
+    counter.count(new Card(2, 0), 1);
+
+    assertEquals(1.0, counter.getBettingCount(index(CountSystem.HI_LO), 104), 1e-9);
+    assertEquals(2.0, counter.getBettingCount(index(CountSystem.KO), 104), 1e-9);
+    assertEquals(2.0, counter.getTrueCount(index(CountSystem.KO), 52), 1e-9);
+  }
+
+  @Test
+  @DisplayName("getTrueCount should count decks by the size of the shoe's composition")
+  void testTrueCountCustom() {
+    RoundEngine engine = new RoundEngine(new Rules(2, 1), 3L);
+    engine.setComposition(Composition.parse("-5"));
+    Shoe shoe = engine.getShoe();
+    shoe.setCounter(counter);
+    shoe.buildNewShoe(Composition.CUSTOM);
+
+    for (int i = 0; i < 20; i++) {
+      shoe.getNextCard();
+    }
+
+    assertEquals(76, shoe.getRemainingCards());
+    assertEquals(shoe.getTrueCount(), counter.getTrueCount(index(CountSystem.HI_LO), shoe.getRemainingCards()), 1e-9);
+    assertEquals(counter.getRunningCount(index(CountSystem.HI_LO)) * 48 / 76.0,
+        counter.getBettingCount(index(CountSystem.HI_LO), shoe.getRemainingCards()), 1e-9);
+  }
+}
@@ -2,7 +2,6 @@ package com.example;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,27 +16,36 @@ public class CardTest {
   }
 
   @Test
-  @DisplayName("Card can be cloned correctly")
-  void testCardCloning() {
-    Card original = new Card(12, 3);
-    Card cloned = original.clone();
+  @DisplayName("Card.of returns one canonical instance per card")
+  void testCardOf() {
+    Card card = Card.of(12, 3);
 
-    assertEquals(original.value(), cloned.value());
-    assertEquals(original.suit(), cloned.suit());
-    assertNotSame(original, cloned);
+    assertEquals(new Card(12, 3), card);
+    assertSame(card, Card.of(12, 3));
+    assertSame(card, Card.of(card.id()));
   }
 
   @Test
-  @DisplayName("clone() should throw AssertionError if CloneNotSupportedException occurs")
-  void testCloneError() {
-    Card card = Mockito.spy(new Card(0, 0));
-    try {
-      Mockito.when(card.superClone()).thenThrow(new CloneNotSupportedException("Test exception"));
-    } catch (CloneNotSupportedException e) {
-      fail("Unexpected exception during test setup");
+  @DisplayName("Card ids cover the 52 cards and the hole card")
+  void testCardIds() {
+    for (int id = 0; id < 52; id++) {
+      Card card = Card.of(id);
+      assertEquals(id, card.id());
+      assertTrue(card.value() < 13);
     }
 
-    assertThrows(AssertionError.class, card::clone);
+    assertEquals(52, Card.HOLE.id());
+    assertEquals(13, Card.HOLE.value());
+    assertSame(Card.HOLE, Card.of(52));
+  }
+
+  @Test
+  @DisplayName("rank() folds tens and faces together")
+  void testRank() {
+    assertEquals(0, new Card(0, 0).rank());
+    assertEquals(8, new Card(8, 1).rank());
+    assertEquals(9, new Card(9, 2).rank());
+    assertEquals(9, new Card(12, 3).rank());
   }
 
   @Test
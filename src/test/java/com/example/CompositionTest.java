@@ -0,0 +1,107 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositionTest {
+  @Test
+  @DisplayName("parse should apply each term to a regular deck")
+  void testParse() {
+    Composition composition = Composition.parse("-5, A=8 t=0");
+
+    assertTrue(composition.isCustom());
+    assertEquals(0, composition.getCount(4));
+    assertEquals(8, composition.getCount(0));
+    assertEquals(0, composition.getCount(9));
+    assertEquals(4, composition.getCount(12));
+    assertEquals(48, composition.getDeckSize());
+    assertEquals(12, composition.getRankCount(9));
+  }
+
+  @Test
+  @DisplayName("parse should start from an empty deck after *=0")
+  void testParseWildcard() {
+    Composition composition = Composition.parse("*=0,A=26,J=26");
+
+    assertEquals(52, composition.getDeckSize());
+    assertEquals(26, composition.getRankCount(0));
+    assertEquals(26, composition.getRankCount(9));
+    assertEquals(0, composition.getRankCount(4));
+  }
+
+  @Test
+  @DisplayName("equal compositions should share one cached instance")
+  void testCached() {
+    Composition composition = Composition.parse("-5");
+
+    assertSame(composition, Composition.parse("5=0"));
+    assertSame(composition, Composition.parse(composition.toString()));
+    assertNotSame(composition, Composition.parse("-6"));
+  }
+
+  @Test
+  @DisplayName("the cache should only keep the most recent custom compositions")
+  void testCacheBounded() {
+    Composition composition = Composition.parse("A=1");
+
+    for (int count = 2; count <= Composition.CUSTOM_CACHE_SIZE + 1; count++) {
+      Composition.parse("A=" + count);
+    }
+
+    Composition parsed = Composition.parse("A=1");
+
+    assertNotSame(composition, parsed);
+    assertEquals(composition, parsed);
+    assertEquals(composition.hashCode(), parsed.hashCode());
+    assertNotEquals(composition, Composition.parse("A=2"));
+    assertNotEquals(Composition.of(1), Composition.parse(""));
+  }
+
+  @Test
+  @DisplayName("parse should reject malformed specs")
+  void testParseInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> Composition.parse("Z=4"));
+    assertThrows(IllegalArgumentException.class, () -> Composition.parse("A"));
+    assertThrows(IllegalArgumentException.class, () -> Composition.parse("A=x"));
+    assertThrows(IllegalArgumentException.class, () -> Composition.parse("A=256"));
+    assertThrows(IllegalArgumentException.class, () -> Composition.parse("*=0"));
+  }
+
+  @Test
+  @DisplayName("the fixed deck types should keep their compositions")
+  void testDeckTypes() {
+    assertEquals(4, Composition.of(1).getCount(0));
+    assertEquals(52, Composition.of(2).getCount(0));
+    assertEquals(52, Composition.of(3).getCount(10));
+    assertEquals(26, Composition.of(4).getCount(10));
+    assertEquals(52, Composition.of(5).getCount(6));
+    assertEquals(52, Composition.of(6).getCount(7));
+    assertFalse(Composition.of(6).isCustom());
+  }
+
+  @Test
+  @DisplayName("a custom composition should drive a dealt shoe and the simulator")
+  void testCustomShoe() {
+    Composition composition = Composition.parse("-5");
+    RoundEngine engine = new RoundEngine(new Rules(2, composition), 3L);
+    Shoe shoe = engine.getShoe();
+    shoe.buildNewShoe(engine.getDeckType());
+    Card card;
+
+    assertEquals(96, shoe.getTotalCards());
+
+    while ((card = shoe.getNextCard()) != null) {
+      assertNotEquals(4, card.value());
+    }
+
+    Shoe counted = new RoundEngine(new Rules(100, composition), 3L).getShoe();
+    counted.buildNewShoe(Composition.CUSTOM);
+    assertEquals(4800, counted.getRemainingCards());
+    assertEquals(0, counted.getRemainingRanks()[4]);
+
+    SimulationStats stats = new Simulator(new Rules(6, composition)).run(20000, 1L);
+    assertEquals(20000, stats.getRounds());
+  }
+}
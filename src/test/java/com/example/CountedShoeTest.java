@@ -0,0 +1,113 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountedShoeTest {
+  private static Shoe shoe(Rules rules) {
+    Shoe shoe = new RoundEngine(rules, 42L).getShoe();
+    shoe.buildNewShoe(rules.deckType());
+    return shoe;
+  }
+
+  @Test
+  @DisplayName("shoes beyond a table's deck count should be counted")
+  void testLargeShoeIsCounted() {
+    assertFalse(new RoundEngine(new Rules(8, 1)).getShoe() instanceof CountedShoe);
+    assertTrue(new RoundEngine(new Rules(9, 1)).getShoe() instanceof CountedShoe);
+    assertTrue(new RoundEngine(new Rules(Rules.INFINITE_DECKS, 1)).getShoe() instanceof CountedShoe);
+  }
+
+  @Test
+  @DisplayName("buildNewShoe should fill the counts for every deck")
+  void testBuildNewShoe() {
+    Shoe shoe = shoe(new Rules(10000, 1));
+
+    assertEquals(520000, shoe.getTotalCards());
+    assertEquals(520000, shoe.getRemainingCards());
+    assertEquals(40000, shoe.getRemainingRanks()[0]);
+    assertEquals(160000, shoe.getRemainingRanks()[9]);
+  }
+
+  @Test
+  @DisplayName("a counted shoe should deal exactly its composition before running out")
+  void testDealsComposition() {
+    Shoe shoe = shoe(new Rules(20, 4));
+    int[] dealt = new int[13];
+    Card card;
+
+    while ((card = shoe.getNextCard()) != null) {
+      dealt[card.value()]++;
+    }
+
+    assertEquals(520, dealt[0]);
+    assertEquals(520, dealt[10]);
+    assertEquals(1040, shoe.getPosition());
+    assertEquals(0, shoe.getRemainingCards());
+    assertTrue(shoe.needToShuffle());
+  }
+
+  @Test
+  @DisplayName("needToShuffle should follow the configured penetration")
+  void testPenetration() {
+    Shoe shoe = shoe(new Rules(100, 1, 50));
+
+    for (int i = 0; i < 2600; i++) {
+      shoe.getNextCard();
+    }
+
+    assertFalse(shoe.needToShuffle());
+    assertEquals(2601, shoe.getCut());
+
+    shoe.getNextCard();
+    assertTrue(shoe.needToShuffle());
+  }
+
+  @Test
+  @DisplayName("an infinite shoe should never run out or change its odds")
+  void testInfiniteShoe() {
+    Shoe shoe = shoe(new Rules(Rules.INFINITE_DECKS, 1));
+    int[] ranks = shoe.getRemainingRanks();
+    int aces = 0;
+
+    for (int i = 0; i < 130000; i++) {
+      if (shoe.getNextCard().isAce()) {
+        aces++;
+      }
+    }
+
+    assertFalse(shoe.needToShuffle());
+    assertArrayEquals(ranks, shoe.getRemainingRanks());
+    assertEquals(10000, aces, 400);
+  }
+
+  @Test
+  @DisplayName("the simulator should play from an infinite shoe")
+  void testSimulatorInfiniteShoe() {
+    SimulationStats stats = new Simulator(new Rules(Rules.INFINITE_DECKS, 1)).run(20000, 1L);
+
+    assertEquals(20000, stats.getRounds());
+  }
+
+  @Test
+  @DisplayName("a counted shoe should refuse a journal")
+  void testJournalRejected() throws Exception {
+    Path directory = Files.createTempDirectory("counted");
+    RoundEngine engine = new RoundEngine(new Rules(100, 1));
+
+    try (HandJournal journal = new HandJournal(directory, 1 << 16)) {
+      assertThrows(IllegalStateException.class, () -> engine.setJournal(journal));
+    } finally {
+      for (Path path : HandJournal.segments(directory)) {
+        Files.delete(path);
+      }
+
+      Files.delete(directory);
+    }
+  }
+}
@@ -22,25 +22,43 @@ class DealerHandTest {
   void testIsBusted() {
     dealerHand.setHideDownCard(false);
 
-    dealerHand.cards.add(new Card(6, 0));
-    dealerHand.cards.add(new Card(8, 0));
+    dealerHand.addCard(new Card(6, 0));
+    dealerHand.addCard(new Card(8, 0));
     assertFalse(dealerHand.isBusted());
 
-    dealerHand.cards.add(new Card(0, 0));
+    dealerHand.addCard(new Card(0, 0));
     assertFalse(dealerHand.isBusted());
 
-    dealerHand.cards.add(new Card(9, 0));
+    dealerHand.addCard(new Card(9, 0));
     assertTrue(dealerHand.isBusted());
   }
 
+  @Test
+  @DisplayName("reset should empty the hand and hide the next down card again")
+  void testReset() {
+    dealerHand.addCard(new Card(9, 0));
+    dealerHand.addCard(new Card(0, 0));
+    dealerHand.setHideDownCard(false);
+    dealerHand.setPlayed(true);
+
+    dealerHand.reset();
+
+    assertTrue(dealerHand.cards.isEmpty());
+    assertFalse(dealerHand.played);
+
+    dealerHand.addCard(new Card(4, 0));
+    dealerHand.addCard(new Card(9, 0));
+    assertEquals(5, dealerHand.getValue(CountMethod.SOFT));
+  }
+
   @Test
   @DisplayName("getValue should respect hideDownCard setting")
   void testGetValue() {
     dealerHand.setHideDownCard(true);
 
-    dealerHand.cards.add(new Card(9, 0));
-    dealerHand.cards.add(new Card(0, 0));
-    dealerHand.cards.add(new Card(4, 0));
+    dealerHand.addCard(new Card(9, 0));
+    dealerHand.addCard(new Card(0, 0));
+    dealerHand.addCard(new Card(4, 0));
 
     assertEquals(15, dealerHand.getValue(CountMethod.SOFT));
 
@@ -51,47 +69,51 @@ class DealerHandTest {
   @Test
   @DisplayName("toString should properly format hand with hidden card")
   void testToStringWithHiddenCard() {
-    Mockito.when(mockGame.cardFace(13, 0)).thenReturn("??");
-    Mockito.when(mockGame.cardFace(9, 0)).thenReturn("10♠");
-    Mockito.when(mockGame.cardFace(0, 0)).thenReturn("A♠");
+    dealerHand.addCard(new Card(9, 0));
+    dealerHand.addCard(new Card(0, 0));
 
-    dealerHand.cards.add(new Card(9, 0));
-    dealerHand.cards.add(new Card(0, 0));
-
-    String expected = " 10♠ ??  ⇒  10\n";
+    String expected = " T♠ ??  ⇒  10\n";
     assertEquals(expected, dealerHand.toString());
   }
 
   @Test
   @DisplayName("toString should properly format hand with revealed cards")
   void testToStringWithRevealedCards() {
-    Mockito.when(mockGame.cardFace(9, 0)).thenReturn("10♠");
-    Mockito.when(mockGame.cardFace(0, 0)).thenReturn("A♠");
-
-    dealerHand.cards.add(new Card(9, 0));
-    dealerHand.cards.add(new Card(0, 0));
+    dealerHand.addCard(new Card(9, 0));
+    dealerHand.addCard(new Card(0, 0));
     dealerHand.setHideDownCard(false);
 
-    String expected = " 10♠ A♠  ⇒  21\n";
+    String expected = " T♠ A♠  ⇒  21\n";
     assertEquals(expected, dealerHand.toString());
   }
 
+  @Test
+  @DisplayName("toString should use the engine's card faces")
+  void testToStringFaceType() {
+    Mockito.when(mockGame.getFaceType()).thenReturn(2);
+
+    dealerHand.addCard(new Card(9, 0));
+    dealerHand.addCard(new Card(0, 0));
+
+    assertEquals(" 🂪 🂠  ⇒  10\n", dealerHand.toString());
+  }
+
   @Test
   @DisplayName("upcardIsAce should correctly identify ace as first card")
   void testUpcardIsAce() {
-    dealerHand.cards.add(new Card(0, 0));
+    dealerHand.addCard(new Card(0, 0));
     assertTrue(dealerHand.upcardIsAce());
 
     dealerHand = new DealerHand(mockGame);
-    dealerHand.cards.add(new Card(9, 0));
+    dealerHand.addCard(new Card(9, 0));
     assertFalse(dealerHand.upcardIsAce());
   }
 
   @Test
   @DisplayName("getValue should handle both hard and soft counts")
   void testGetValueCountMethods() {
-    dealerHand.cards.add(new Card(0, 0));
-    dealerHand.cards.add(new Card(4, 0));
+    dealerHand.addCard(new Card(0, 0));
+    dealerHand.addCard(new Card(4, 0));
     dealerHand.setHideDownCard(false);
 
     assertEquals(16, dealerHand.getValue(CountMethod.SOFT));
@@ -0,0 +1,111 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealerOddsTest {
+  private static int[] decks(int numDecks) {
+    int[] ranks = new int[10];
+
+    for (int rank = 0; rank < 10; rank++) {
+      ranks[rank] = (rank == 9 ? 16 : 4) * numDecks;
+    }
+
+    return ranks;
+  }
+
+  private static int[] only(int rank, int count) {
+    int[] ranks = new int[10];
+    ranks[rank] = count;
+    return ranks;
+  }
+
+  @Test
+  @DisplayName("outcomes should sum to one for every upcard")
+  void testOutcomesSumToOne() {
+    DealerOdds odds = new DealerOdds(decks(1));
+
+    for (int upcard = 0; upcard < 10; upcard++) {
+      double sum = 0;
+
+      for (double p : odds.outcomes(upcard)) {
+        sum += p;
+      }
+
+      assertEquals(1.0, sum, 1e-9);
+    }
+  }
+
+  @Test
+  @DisplayName("outcomes should stand on hard 17")
+  void testStandsOnHard17() {
+    double[] outcomes = new DealerOdds(only(9, 4)).outcomes(6);
+
+    assertEquals(1.0, outcomes[0], 1e-9);
+  }
+
+  @Test
+  @DisplayName("outcomes should hit soft 17")
+  void testHitsSoft17() {
+    double[] outcomes = new DealerOdds(only(5, 8)).outcomes(0);
+
+    assertEquals(1.0, outcomes[2], 1e-9);
+  }
+
+  @Test
+  @DisplayName("outcomes should bust a stiff hand that can only draw tens")
+  void testBust() {
+    double[] outcomes = new DealerOdds(only(9, 4)).outcomes(5);
+
+    assertEquals(1.0, outcomes[DealerOdds.BUST], 1e-9);
+  }
+
+  @Test
+  @DisplayName("outcomes should draw without replacement")
+  void testWithoutReplacement() {
+    int[] ranks = new int[10];
+    ranks[1] = 2;
+    ranks[9] = 1;
+
+    double[] outcomes = new DealerOdds(ranks).outcomes(5);
+
+    assertEquals(2.0 / 3, outcomes[1], 1e-9);
+    assertEquals(1.0 / 3, outcomes[3], 1e-9);
+    assertEquals(0.0, outcomes[DealerOdds.BUST], 1e-9);
+  }
+
+  @Test
+  @DisplayName("outcomes should exclude a ten in the hole when the dealer has peeked")
+  void testNoBlackjack() {
+    int[] ranks = new int[10];
+    ranks[6] = 1;
+    ranks[9] = 1;
+
+    DealerOdds odds = new DealerOdds(ranks);
+
+    assertEquals(0.5, odds.outcomes(0)[4], 1e-9);
+    assertEquals(1.0, odds.outcomes(0, true)[1], 1e-9);
+    assertEquals(1.0, odds.outcomes(new Card(0, 0))[1], 1e-9);
+  }
+
+  @Test
+  @DisplayName("outcomes should match the published eight deck bust rates")
+  void testEightDecks() {
+    int[] ranks = decks(8);
+    ranks[5]--;
+
+    assertEquals(0.44, new DealerOdds(ranks).outcomes(5)[DealerOdds.BUST], 0.005);
+  }
+
+  @Test
+  @DisplayName("outcomes should return a copy callers can modify")
+  void testOutcomesCopy() {
+    DealerOdds odds = new DealerOdds(decks(1));
+
+    odds.outcomes(5)[0] = 5.0;
+
+    assertNotEquals(5.0, odds.outcomes(5)[0]);
+  }
+}
@@ -0,0 +1,124 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvSolverTest {
+  private RoundEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    engine = new RoundEngine(new Rules(8, 1));
+  }
+
+  private PlayerHand hand(Card... cards) {
+    PlayerHand playerHand = new PlayerHand(engine);
+
+    for (Card card : cards) {
+      playerHand.addCard(card);
+    }
+
+    engine.getPlayerHands().add(playerHand);
+    return playerHand;
+  }
+
+  private static int[] tens(int count) {
+    int[] ranks = new int[10];
+    ranks[9] = count;
+    return ranks;
+  }
+
+  @Test
+  @DisplayName("solve should value every legal action")
+  void testSolveDouble() {
+    PlayerHand playerHand = hand(new Card(4, 0), new Card(5, 0));
+
+    EnumMap<Action, Double> values = new EvSolver(tens(20), new Card(6, 0)).solve(playerHand);
+
+    assertEquals(-1.0, values.get(Action.STAND), 1e-9);
+    assertEquals(1.0, values.get(Action.HIT), 1e-9);
+    assertEquals(2.0, values.get(Action.DOUBLE), 1e-9);
+    assertFalse(values.containsKey(Action.SPLIT));
+  }
+
+  @Test
+  @DisplayName("solve should only offer stand on 21")
+  void testSolveTwentyOne() {
+    PlayerHand playerHand = hand(new Card(9, 0), new Card(5, 0), new Card(4, 0));
+
+    EnumMap<Action, Double> values = new EvSolver(tens(20), new Card(6, 0)).solve(playerHand);
+
+    assertEquals(1, values.size());
+    assertEquals(1.0, values.get(Action.STAND), 1e-9);
+  }
+
+  @Test
+  @DisplayName("solve should pay a split ace and ten 3:2 like payHands")
+  void testSolveSplitBlackjack() {
+    PlayerHand playerHand = hand(new Card(0, 0), new Card(0, 1));
+
+    EnumMap<Action, Double> values = new EvSolver(tens(20), new Card(6, 0)).solve(playerHand);
+
+    assertEquals(3.0, values.get(Action.SPLIT), 1e-9);
+  }
+
+  @Test
+  @DisplayName("solve should stop resplitting at MAX_PLAYER_HANDS")
+  void testSolveMaxHands() {
+    for (int i = 0; i < RoundEngine.MAX_PLAYER_HANDS - 2; i++) {
+      hand(new Card(9, 0), new Card(6, 0));
+    }
+    PlayerHand playerHand = hand(new Card(9, 0), new Card(9, 1));
+
+    EnumMap<Action, Double> values = new EvSolver(tens(20), new Card(6, 0)).solve(playerHand);
+
+    assertEquals(2.0, values.get(Action.SPLIT), 1e-9);
+  }
+
+  @Test
+  @DisplayName("solve should add the value of resplit hands")
+  void testSolveResplit() {
+    PlayerHand playerHand = hand(new Card(9, 0), new Card(9, 1));
+
+    EnumMap<Action, Double> values = new EvSolver(tens(20), new Card(6, 0)).solve(playerHand);
+
+    assertTrue(values.get(Action.SPLIT) > 2.0);
+    assertTrue(values.get(Action.SPLIT) < RoundEngine.MAX_PLAYER_HANDS);
+  }
+
+  @Test
+  @DisplayName("solve should match the simulated value of 16 against a ten on eight decks")
+  void testSolveEightDecks() {
+    PlayerHand playerHand = hand(new Card(9, 0), new Card(5, 1));
+    int[] ranks = {32, 32, 32, 32, 32, 32, 32, 32, 32, 128};
+    ranks[9] -= 2;
+    ranks[5]--;
+
+    EnumMap<Action, Double> values = new EvSolver(ranks, new Card(9, 2)).solve(playerHand);
+
+    assertEquals(-0.577, values.get(Action.STAND), 0.003);
+    assertEquals(-1.134, values.get(Action.DOUBLE), 0.005);
+    assertTrue(values.get(Action.HIT) > values.get(Action.STAND));
+  }
+
+  @Test
+  @DisplayName("solve should give each hand its own values on a shared solver")
+  void testSolveTwoHands() {
+    int[] ranks = {32, 32, 32, 32, 32, 32, 32, 32, 32, 128};
+    PlayerHand sixteen = hand(new Card(9, 0), new Card(5, 0));
+    PlayerHand twelve = hand(new Card(4, 1), new Card(6, 1));
+    EvSolver solver = new EvSolver(ranks, new Card(9, 2));
+
+    EnumMap<Action, Double> first = solver.solve(sixteen);
+    EnumMap<Action, Double> second = solver.solve(twelve);
+
+    assertEquals(new EvSolver(ranks, new Card(9, 2)).solve(sixteen), first);
+    assertEquals(new EvSolver(ranks, new Card(9, 2)).solve(twelve), second);
+    assertNotEquals(first.get(Action.HIT), second.get(Action.HIT));
+  }
+}
@@ -0,0 +1,107 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameBufferTest {
+  private FrameBuffer frame;
+
+  @BeforeEach
+  void setUp() {
+    frame = new FrameBuffer(4);
+  }
+
+  @Test
+  @DisplayName("append should encode text as UTF-8 and grow the buffer")
+  void testAppend() {
+    String text = " ⇒  Dealer: 🂡 ⇐\n";
+    frame.append(text).append(text);
+
+    assertEquals(text + text, frame.toString());
+  }
+
+  @Test
+  @DisplayName("appendCard should use the glyphs for the face type")
+  void testAppendCard() {
+    frame.appendCard(Card.of(0, 0)).appendCard(Card.HOLE);
+    frame.setFaceType(2);
+    frame.appendCard(Card.of(12, 3)).appendCard(Card.HOLE);
+
+    assertEquals("A♠??🃞🂠", frame.toString());
+  }
+
+  @Test
+  @DisplayName("appendMoney should match two decimal formatting")
+  void testAppendMoney() {
+    for (int cents : new int[]{0, 5, 50, 500, 1050, 12345, 1000000, -250}) {
+      frame.reset();
+      frame.appendMoney(cents);
+
+      assertEquals(String.format("%.2f", cents / 100.0), frame.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("appendInt should write the decimal digits")
+  void testAppendInt() {
+    frame.appendInt(0).append((byte) ' ').appendInt(21).append((byte) ' ').appendInt(-17);
+
+    assertEquals("0 21 -17", frame.toString());
+  }
+
+  @Test
+  @DisplayName("appendInt should write the extremes of int")
+  void testAppendIntExtremes() {
+    frame.appendInt(Integer.MIN_VALUE).append((byte) ' ').appendInt(Integer.MAX_VALUE);
+
+    assertEquals("-2147483648 2147483647", frame.toString());
+  }
+
+  @Test
+  @DisplayName("appendMoney should write the extremes of int")
+  void testAppendMoneyExtremes() {
+    frame.appendMoney(Integer.MIN_VALUE).append((byte) ' ').appendMoney(Integer.MAX_VALUE);
+
+    assertEquals("-21474836.48 21474836.47", frame.toString());
+  }
+
+  @Test
+  @DisplayName("draw should match toString for the hands of played rounds")
+  void testDrawMatchesToString() {
+    RoundEngine engine = new RoundEngine(new Rules(1, 1), 7L);
+    BasicStrategy strategy = new BasicStrategy();
+
+    for (int round = 0; round < 200; round++) {
+      engine.setMoney(10000);
+      engine.play(strategy);
+
+      frame.reset();
+      engine.getDealerHand().draw(frame);
+      StringBuilder expected = new StringBuilder(engine.getDealerHand().toString());
+
+      for (PlayerHand playerHand : engine.getPlayerHands()) {
+        playerHand.draw(frame);
+        expected.append(playerHand);
+      }
+
+      assertEquals(expected.toString(), frame.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("writeTo should write the frame in one piece")
+  void testWriteTo() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    frame.append("\n Player $").appendMoney(10000).append(":\n");
+
+    frame.writeTo(new PrintStream(outputStream));
+
+    assertEquals("\n Player $100.00:\n", outputStream.toString());
+  }
+}
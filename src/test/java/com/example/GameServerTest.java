@@ -0,0 +1,133 @@
+package com.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+  private GameServer server;
+  private Thread acceptor;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new GameServer(0);
+    acceptor = new Thread(server::serve);
+    acceptor.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    server.close();
+    acceptor.join(5000);
+  }
+
+  private Socket connect() throws IOException {
+    Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    socket.setSoTimeout(10000);
+    return socket;
+  }
+
+  private static String readUntil(InputStream in, String... prompts) throws IOException {
+    StringBuilder text = new StringBuilder();
+    byte[] buffer = new byte[4096];
+
+    while (true) {
+      for (String prompt : prompts) {
+        if (text.indexOf(prompt) >= 0) {
+          return text.toString();
+        }
+      }
+
+      int n = in.read(buffer);
+      if (n < 0) {
+        return text.toString();
+      }
+
+      text.append(new String(buffer, 0, n, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void play(Socket socket) throws IOException {
+    InputStream in = socket.getInputStream();
+    OutputStream out = socket.getOutputStream();
+
+    while (true) {
+      String text = readUntil(in, "(H) Hit", "Insurance?", "(D) Deal Hand");
+
+      if (text.contains("(D) Deal Hand")) {
+        out.write("q\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        return;
+      }
+
+      out.write((text.contains("Insurance?") ? "n" : "s").getBytes(StandardCharsets.UTF_8));
+      out.flush();
+    }
+  }
+
+  @Test
+  @DisplayName("a session should play a round and end when the player quits")
+  void testSession() throws IOException {
+    try (Socket socket = connect()) {
+      play(socket);
+
+      assertTrue(readUntil(socket.getInputStream()).endsWith("\033[H\033[2J"));
+      assertEquals(-1, socket.getInputStream().read());
+    }
+  }
+
+  @Test
+  @DisplayName("a session should end when the client disconnects mid-round")
+  void testDisconnect() throws IOException {
+    try (Socket socket = connect()) {
+      assertTrue(readUntil(socket.getInputStream(), "Dealer:").contains("Dealer:"));
+    }
+
+    try (Socket socket = connect()) {
+      play(socket);
+    }
+  }
+
+  @Test
+  @DisplayName("the server should run many sessions at once")
+  void testConcurrentSessions() throws Exception {
+    List<Socket> idle = new ArrayList<>();
+    List<CompletableFuture<Void>> active = new ArrayList<>();
+
+    try {
+      for (int i = 0; i < 200; i++) {
+        idle.add(connect());
+      }
+
+      for (int i = 0; i < 50; i++) {
+        active.add(CompletableFuture.runAsync(() -> {
+          try (Socket socket = connect()) {
+            play(socket);
+          } catch (IOException e) {
+            throw new RuntimeException(e);
+          }
+        }));
+      }
+
+      CompletableFuture.allOf(active.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+    } finally {
+      for (Socket socket : idle) {
+        socket.close();
+      }
+    }
+  }
+}
@@ -6,7 +6,13 @@ import org.mockito.MockedConstruction;
 import java.io.*;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.willAnswer;
@@ -32,7 +38,8 @@ public class GameTest {
     deleteSaveFile();
     System.setOut(new PrintStream(outputStream));
 
-    game = spy(new Game());
+    // Built through the constructor so that the table's pooled hands belong to the spy.
+    game = mock(Game.class, withSettings().useConstructor().defaultAnswer(CALLS_REAL_METHODS));
     shoe = spy(new Shoe(game));
     when(game.getShoe()).thenReturn(shoe);
   }
@@ -40,15 +47,25 @@ public class GameTest {
   @AfterEach
   public void tearDown() {
     System.setOut(originalOut);
+    game.flushSaves();
     deleteSaveFile();
   }
 
   @SuppressWarnings("SameParameterValue")
   private void setField(Object target, String fieldName, Object value) {
     try {
-      Field field = target.getClass().getDeclaredField(fieldName);
-      field.setAccessible(true);
-      field.set(target, value);
+      Class<?> currentClass = target.getClass();
+      while (currentClass != null) {
+        try {
+          Field field = currentClass.getDeclaredField(fieldName);
+          field.setAccessible(true);
+          field.set(target, value);
+          return;
+        } catch (NoSuchFieldException ignored) {
+          currentClass = currentClass.getSuperclass();
+        }
+      }
+      throw new NoSuchFieldException("Field '" + fieldName + "' not found in class hierarchy of " + target.getClass());
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -88,14 +105,9 @@ public class GameTest {
     @BeforeEach
     void setUp() {
       shoe.buildNewShoe(1);
-      doNothing().when(game).playDealerHand();
-      when(game.getChar()).thenReturn('s', 'q');
 
-      ArrayList<PlayerHand> playerHands = new ArrayList<>();
       playerHand = spy(new PlayerHand(game));
-      playerHands.add(playerHand);
-      when(game.getPlayerHands()).thenReturn(playerHands);
-      doNothing().when(game).drawHands();
+      game.getPlayerHands().add(playerHand);
     }
 
     @Test
@@ -103,25 +115,16 @@ public class GameTest {
       when(shoe.getNextCard()).thenReturn(
           new Card(7, 0),
           new Card(7, 1),
-          new Card(8, 0),
-          new Card(8, 1));
+          new Card(8, 0));
       playerHand.dealCards(2);
 
       game.splitCurrentHand();
-      verify(game, times(2)).drawHands();
-    }
 
-    @Test
-    void testSplitCurrentHandHandIsDone() {
-      when(shoe.getNextCard()).thenReturn(
-          new Card(0, 0),
-          new Card(0, 1),
-          new Card(10, 0),
-          new Card(10, 1));
-      playerHand.dealCards(2);
-
-      game.splitCurrentHand();
-      verify(game, times(2)).drawHands();
+      assertEquals(2, game.getPlayerHands().size());
+      assertEquals(2, game.getPlayerHands().get(0).getCards().size());
+      assertEquals(1, game.getPlayerHands().get(1).getCards().size());
+      assertEquals(new Card(7, 1), game.getPlayerHands().get(1).getCards().get(0));
+      verify(game, never()).drawHands();
     }
   }
 
@@ -131,33 +134,28 @@ public class GameTest {
     @Test
     void testGetNewNumDecksType() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).gameOptions();
       when(game.getChar()).thenReturn('1');
 
-      game.getNewNumDecks();
-      verify(game).gameOptions();
+      assertEquals(GameState.GAME_OPTIONS, game.getNewNumDecks());
+      verify(game, never()).gameOptions();
     }
 
     @Test
     void testGetNewNumDecksTypeInvalidInputLow() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).gameOptions();
       when(game.getChar()).thenReturn('#', '1');
 
-      game.getNewNumDecks();
+      assertEquals(GameState.GAME_OPTIONS, game.getNewNumDecks());
       assertEquals(1, game.getNumDecks());
-      verify(game).gameOptions();
     }
 
     @Test
     void testGetNewNumDecksTypeInvalidInputHigh() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).gameOptions();
       when(game.getChar()).thenReturn('9', '1');
 
-      game.getNewNumDecks();
+      assertEquals(GameState.GAME_OPTIONS, game.getNewNumDecks());
       assertEquals(8, game.getNumDecks());
-      verify(game).gameOptions();
     }
   }
 
@@ -169,7 +167,7 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('1');
 
-      game.getNewDeckType();
+      assertEquals(GameState.DEAL, game.getNewDeckType());
       verify(game).saveGame();
     }
 
@@ -178,7 +176,7 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('2');
 
-      game.getNewDeckType();
+      assertEquals(GameState.DEAL, game.getNewDeckType());
       verify(game).saveGame();
       assertEquals(8, game.getNumDecks());
     }
@@ -188,9 +186,10 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('#', '1');
 
-      game.getNewDeckType();
+      assertEquals(GameState.NEW_DECK_TYPE, game.getNewDeckType());
+      verify(game, never()).saveGame();
+      assertEquals(GameState.DEAL, game.getNewDeckType());
       verify(game).saveGame();
-      verify(game, times(2)).getNewDeckType();
     }
 
     @Test
@@ -198,9 +197,50 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('8', '1');
 
-      game.getNewDeckType();
+      assertEquals(GameState.NEW_DECK_TYPE, game.getNewDeckType());
+      verify(game, never()).saveGame();
+      assertEquals(GameState.DEAL, game.getNewDeckType());
+      verify(game).saveGame();
+    }
+
+    @Test
+    void testGetNewDeckTypeCustom() {
+      doNothing().when(game).drawHands();
+      when(game.getChar()).thenReturn('7');
+
+      assertEquals(GameState.NEW_COMPOSITION, game.getNewDeckType());
+      verify(game, never()).getLine();
+      assertEquals(1, game.getDeckType());
+    }
+
+    @Test
+    void testGetNewComposition() {
+      doNothing().when(game).drawHands();
+      doReturn("-5").when(game).getLine();
+
+      assertEquals(GameState.DEAL, game.step(GameState.NEW_COMPOSITION));
       verify(game).saveGame();
-      verify(game, times(2)).getNewDeckType();
+      assertEquals(Composition.CUSTOM, game.getDeckType());
+      assertEquals(0, game.getComposition().getCount(4));
+      assertEquals(48, game.getShoe().getRemainingCards());
+    }
+
+    @Test
+    void testGetNewCompositionInvalid() {
+      doNothing().when(game).drawHands();
+      doReturn("Z=4").when(game).getLine();
+      when(game.getChar()).thenReturn('x');
+
+      assertEquals(GameState.NEW_DECK_TYPE, game.getNewComposition());
+      verify(game, never()).saveGame();
+      assertEquals(1, game.getDeckType());
+
+      assertEquals(GameState.NEW_DECK_TYPE, game.getNewDeckType());
+      assertTrue(outputStream.toString().contains(" Invalid composition: Unknown card value: Z\n"));
+
+      outputStream.reset();
+      game.getNewDeckType();
+      assertFalse(outputStream.toString().contains("Invalid composition"));
     }
   }
 
@@ -212,7 +252,7 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('1');
 
-      game.getNewFaceType();
+      assertEquals(GameState.DEAL, game.getNewFaceType());
       verify(game).saveGame();
     }
 
@@ -221,9 +261,11 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('x', '2');
 
-      game.getNewFaceType();
-      verify(game, times(2)).getNewFaceType();
+      assertEquals(GameState.NEW_FACE_TYPE, game.getNewFaceType());
+      verify(game, never()).saveGame();
+      assertEquals(GameState.DEAL, game.getNewFaceType());
       verify(game).saveGame();
+      assertEquals(2, game.getFaceType());
     }
   }
 
@@ -232,14 +274,13 @@ public class GameTest {
   class InsureHandsTest {
     @Test
     void testInsureHands() {
-      doNothing().when(game).drawHands();
-      doNothing().when(game).betOptions();
-
       PlayerHand playerHand = spy(new PlayerHand(game));
       game.getPlayerHands().add(playerHand);
 
       game.insureHand();
       assertEquals(9750, game.getMoney());
+      verify(game, never()).drawHands();
+      verify(game, never()).betOptions();
     }
   }
 
@@ -249,91 +290,47 @@ public class GameTest {
     @Test
     void testGameOptionsNewNumDecks() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).getNewNumDecks();
       when(game.getChar()).thenReturn('n');
 
-      game.gameOptions();
-      verify(game).getNewNumDecks();
+      assertEquals(GameState.NEW_NUM_DECKS, game.gameOptions());
+      verify(game, never()).getNewNumDecks();
     }
 
     @Test
     void testGameOptionsNewDeckType() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).getNewDeckType();
       when(game.getChar()).thenReturn('t');
 
-      game.gameOptions();
-      verify(game).getNewDeckType();
+      assertEquals(GameState.NEW_DECK_TYPE, game.gameOptions());
+      verify(game, never()).getNewDeckType();
     }
 
     @Test
     void testGameOptionsNewFaceType() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).getNewFaceType();
       when(game.getChar()).thenReturn('f');
 
-      game.gameOptions();
-      verify(game).getNewFaceType();
+      assertEquals(GameState.NEW_FACE_TYPE, game.gameOptions());
+      verify(game, never()).getNewFaceType();
     }
 
     @Test
     void testGameOptionsGoBack() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).betOptions();
       when(game.getChar()).thenReturn('b');
 
-      game.gameOptions();
-      verify(game).betOptions();
+      assertEquals(GameState.BET_OPTIONS, game.gameOptions());
+      verify(game, never()).betOptions();
+      verify(game, times(2)).drawHands();
     }
 
     @Test
     void testGameOptionsInvalidInput() {
       doNothing().when(game).drawHands();
-      doNothing().when(game).getNewNumDecks();
       when(game.getChar()).thenReturn('x', 'n');
 
-      game.gameOptions();
-      verify(game, times(2)).gameOptions();
-    }
-  }
-
-  @Nested
-  @DisplayName("playMoreHands tests")
-  class PlayMoreHandsTests {
-    private PlayerHand playerHand2;
-
-    @BeforeEach
-    void setUp() {
-      shoe.buildNewShoe(1);
-
-      PlayerHand playerHand = spy(new PlayerHand(game));
-      playerHand2 = spy(new PlayerHand(game));
-
-      playerHand.dealCards(2);
-      game.getPlayerHands().add(playerHand);
-
-      playerHand2.dealCards(1);
-      game.getPlayerHands().add(playerHand2);
-    }
-
-    @Test
-    void testPlayMoreHands() {
-      when(playerHand2.isDone()).thenReturn(false);
-      doNothing().when(playerHand2).getAction();
-
-      game.playMoreHands();
-      verify(game).drawHands();
-      verify(playerHand2).getAction();
-    }
-
-    @Test
-    void testPlayMoreHandsIsDone() {
-      when(playerHand2.isDone()).thenReturn(true);
-      doNothing().when(playerHand2).process();
-
-      game.playMoreHands();
-      verify(game, never()).drawHands();
-      verify(playerHand2).process();
+      assertEquals(GameState.GAME_OPTIONS, game.gameOptions());
+      verify(game, times(1)).gameOptions();
     }
   }
 
@@ -344,37 +341,35 @@ public class GameTest {
     void testBetOptions() {
       when(game.getChar()).thenReturn('q');
 
-      game.betOptions();
+      assertEquals(GameState.QUIT, game.betOptions());
       verify(game).clear();
       verify(game, never()).drawHands();
     }
 
     @Test
     void testBetOptionsDealNewHand() {
-      doNothing().when(game).dealNewHand();
       when(game.getChar()).thenReturn('d');
 
-      game.betOptions();
+      assertEquals(GameState.DEAL, game.betOptions());
+      verify(game, never()).dealNewHand();
       verify(game, never()).drawHands();
     }
 
     @Test
     void testBetOptionsGetNewBet() {
-      doNothing().when(game).getNewBet();
       when(game.getChar()).thenReturn('b');
 
-      game.betOptions();
-      verify(game).getNewBet();
+      assertEquals(GameState.NEW_BET, game.betOptions());
+      verify(game, never()).getNewBet();
       verify(game, never()).drawHands();
     }
 
     @Test
     void testBetOptionsGameOptions() {
-      doNothing().when(game).gameOptions();
       when(game.getChar()).thenReturn('o');
 
-      game.betOptions();
-      verify(game).gameOptions();
+      assertEquals(GameState.GAME_OPTIONS, game.betOptions());
+      verify(game, never()).gameOptions();
       verify(game, never()).drawHands();
     }
 
@@ -383,8 +378,9 @@ public class GameTest {
       doNothing().when(game).drawHands();
       when(game.getChar()).thenReturn('x', 'q');
 
-      game.betOptions();
-      verify(game, times(2)).betOptions();
+      assertEquals(GameState.BET_OPTIONS, game.betOptions());
+      verify(game, times(1)).betOptions();
+      verify(game).drawHands();
     }
   }
 
@@ -393,37 +389,36 @@ public class GameTest {
   class GetNewBetTests {
     @Test
     void getNewBet2() {
-      when(game.getChar()).thenReturn('2', 'q');
-      doNothing().when(game).dealNewHand();
-      game.getNewBet();
+      when(game.getChar()).thenReturn('2');
 
+      assertEquals(GameState.DEAL, game.getNewBet());
       assertEquals(1000, game.getCurrentBet());
+      verify(game, never()).dealNewHand();
     }
 
     @Test
     void getNewBet3() {
-      when(game.getChar()).thenReturn('3', 'q');
-      doNothing().when(game).dealNewHand();
-      game.getNewBet();
+      when(game.getChar()).thenReturn('3');
 
+      assertEquals(GameState.DEAL, game.getNewBet());
       assertEquals(2500, game.getCurrentBet());
     }
 
     @Test
     void getNewBet4() {
-      when(game.getChar()).thenReturn('4', 'q');
-      doNothing().when(game).dealNewHand();
-      game.getNewBet();
+      when(game.getChar()).thenReturn('4');
 
+      assertEquals(GameState.DEAL, game.getNewBet());
       assertEquals(10000, game.getCurrentBet());
     }
 
     @Test
     void getNewBetInvalidInput() {
-      when(game.getChar()).thenReturn('5', '4', 'q');
-      doNothing().when(game).dealNewHand();
-      game.getNewBet();
+      when(game.getChar()).thenReturn('5', '4');
 
+      assertEquals(GameState.NEW_BET, game.getNewBet());
+      assertEquals(500, game.getCurrentBet());
+      assertEquals(GameState.DEAL, game.getNewBet());
       assertEquals(10000, game.getCurrentBet());
     }
   }
@@ -434,10 +429,9 @@ public class GameTest {
     @Test
     void testNormalizeBet() {
       setField(game, "money", 100);
-      when(game.getChar()).thenReturn('1', 'q');
-      doNothing().when(game).dealNewHand();
-      game.getNewBet();
+      when(game.getChar()).thenReturn('1');
 
+      assertEquals(GameState.DEAL, game.getNewBet());
       assertEquals(100, game.getCurrentBet());
     }
   }
@@ -453,16 +447,17 @@ public class GameTest {
           new Card(8, 0),
           new Card(8, 0));
 
-      when(game.getChar()).thenReturn('s', 'q');
+      when(game.getChar()).thenReturn('s');
 
-      game.dealNewHand();
-      verify(game, times(2)).saveGame();
+      assertEquals(GameState.BET_OPTIONS, game.dealNewHand());
+      verify(game).play(game);
+      verify(game).saveGame();
+      verify(game, never()).betOptions();
     }
 
     @Test
     void testDealNewHandNoNeedToShuffle() {
       when(shoe.needToShuffle()).thenReturn(false);
-      when(game.getChar()).thenReturn('s', 'q');
 
       when(shoe.getNextCard()).thenReturn(
           new Card(8, 0),
@@ -470,7 +465,7 @@ public class GameTest {
           new Card(8, 0),
           new Card(8, 0));
 
-      when(game.getChar()).thenReturn('s', 'q');
+      when(game.getChar()).thenReturn('s');
 
       game.dealNewHand();
       verify(shoe, never()).buildNewShoe(any(int.class));
@@ -484,10 +479,10 @@ public class GameTest {
           new Card(8, 0),
           new Card(7, 0));
 
-      when(game.getChar()).thenReturn('n', 's', 'q');
+      when(game.getChar()).thenReturn('n', 's');
 
       game.dealNewHand();
-      verify(game).askInsurance();
+      verify(game).takeInsurance(game);
     }
 
     @Test
@@ -498,10 +493,9 @@ public class GameTest {
           new Card(9, 0),
           new Card(5, 0));
 
-      when(game.getChar()).thenReturn('q');
-
       game.dealNewHand();
       verify(game).payHands();
+      verify(game, never()).getAction(any(RoundEngine.class), any(PlayerHand.class));
     }
   }
 
@@ -511,8 +505,6 @@ public class GameTest {
     @Test
     void testDrawHands() {
       game.getPlayerHands().add(new PlayerHand(game));
-      PlayerHand playerHand = spy(game.getPlayerHands().get(0));
-      doNothing().when(playerHand).getAction();
 
       game.drawHands();
 
@@ -578,7 +570,7 @@ public class GameTest {
     @Test
     void testPayHands() {
       game.payHands();
-      verify(game).saveGame();
+      verify(game, never()).saveGame();
     }
 
     @Test
@@ -587,7 +579,6 @@ public class GameTest {
 
       game.payHands();
       verify(playerHand, never()).setPaid(true);
-      verify(game).saveGame();
     }
 
     @Test
@@ -596,7 +587,6 @@ public class GameTest {
 
       game.payHands();
       assertEquals(HandStatus.WON, getField(playerHand, "status", HandStatus.class));
-      verify(game).saveGame();
     }
   }
 
@@ -634,55 +624,6 @@ public class GameTest {
     }
   }
 
-  @Nested
-  @DisplayName("noInsurance tests")
-  class NoInsuranceTests {
-    @Test
-    void testNoInsurance() {
-      PlayerHand playerHand = spy(new PlayerHand(game));
-      game.getPlayerHands().add(playerHand);
-
-      DealerHand dealerHand = spy(new DealerHand(game));
-      setField(game, "dealerHand", dealerHand);
-      when(dealerHand.isBlackjack()).thenReturn(false);
-
-      when(game.getChar()).thenReturn('s', 'q');
-      doNothing().when(game).playDealerHand();
-
-      game.noInsurance();
-      verify(playerHand).getAction();
-    }
-
-    @Test
-    void testNoInsuranceDealerHasBlackjack() {
-      DealerHand dealerHand = spy(new DealerHand(game));
-      setField(game, "dealerHand", dealerHand);
-      when(dealerHand.isBlackjack()).thenReturn(true);
-
-      when(game.getChar()).thenReturn('q');
-
-      game.noInsurance();
-      verify(game).payHands();
-    }
-
-    @Test
-    void testNoInsuranceDealerDoesNotHaveBlackjack() {
-      DealerHand dealerHand = spy(new DealerHand(game));
-      setField(game, "dealerHand", dealerHand);
-      when(dealerHand.isBlackjack()).thenReturn(false);
-      doNothing().when(game).playDealerHand();
-
-      PlayerHand playerHand = spy(new PlayerHand(game));
-      game.getPlayerHands().add(playerHand);
-      when(playerHand.isDone()).thenReturn(true);
-
-      when(game.getChar()).thenReturn('q');
-
-      game.noInsurance();
-      verify(game).playDealerHand();
-    }
-  }
-
   @Nested
   @DisplayName("playDealerHand tests")
   class PlayDealerHandTests {
@@ -747,36 +688,125 @@ public class GameTest {
   }
 
   @Nested
-  @DisplayName("askInsurance Tests")
-  class AskInsuranceTests {
+  @DisplayName("takeInsurance Tests")
+  class TakeInsuranceTests {
+    @BeforeEach
+    void setUp() {
+      doNothing().when(game).drawHands();
+    }
+
     @Test
-    @DisplayName("askInsurance should insure hand if the player wants insurance")
-    void testAskInsuranceYes() {
+    @DisplayName("takeInsurance should return true if the player wants insurance")
+    void testTakeInsuranceYes() {
       when(game.getChar()).thenReturn('y');
-      doNothing().when(game).insureHand();
 
-      game.askInsurance();
-      verify(game).insureHand();
+      assertTrue(game.takeInsurance(game));
     }
 
     @Test
-    @DisplayName("askInsurance should not insure hand if the player does not want insurance")
-    void testAskInsuranceNo() {
+    @DisplayName("takeInsurance should return false if the player does not want insurance")
+    void testTakeInsuranceNo() {
       when(game.getChar()).thenReturn('n');
-      doNothing().when(game).noInsurance();
 
-      game.askInsurance();
-      verify(game).noInsurance();
+      assertFalse(game.takeInsurance(game));
     }
 
     @Test
-    @DisplayName("askInsurance should ask again if the player does not enter y or n")
-    void testAskInsuranceInvalidResponse() {
+    @DisplayName("takeInsurance should ask again if the player does not enter y or n")
+    void testTakeInsuranceInvalidResponse() {
       when(game.getChar()).thenReturn('x', 'n');
-      doNothing().when(game).noInsurance();
 
-      game.askInsurance();
-      verify(game).noInsurance();
+      assertFalse(game.takeInsurance(game));
+      verify(game, times(2)).drawHands();
+    }
+  }
+
+  @Nested
+  @DisplayName("getAction Tests")
+  class GetActionTests {
+    private PlayerHand playerHand;
+
+    @BeforeEach
+    void setUp() {
+      doNothing().when(game).drawHands();
+      playerHand = spy(new PlayerHand(game));
+    }
+
+    @Test
+    @DisplayName("show all options")
+    public void testMenuShowsAllOptionsWhenAllAvailable() {
+      when(playerHand.canSplit()).thenReturn(true);
+      when(playerHand.canDbl()).thenReturn(true);
+      when(game.getChar()).thenReturn('h');
+
+      assertEquals(Action.HIT, game.getAction(game, playerHand));
+      assertEquals(" (H) Hit  (S) Stand  (P) Split  (D) Double\n", outputStream.toString());
+    }
+
+    @Test
+    @DisplayName("cannot dbl or split")
+    public void testMenuShowsCannotDblOrSplit() {
+      when(playerHand.canSplit()).thenReturn(false);
+      when(playerHand.canDbl()).thenReturn(false);
+      when(game.getChar()).thenReturn('s');
+
+      assertEquals(Action.STAND, game.getAction(game, playerHand));
+      assertEquals(" (H) Hit  (S) Stand  \n", outputStream.toString());
+    }
+
+    @Test
+    @DisplayName("hand can be split")
+    public void testHandCanBeSplit() {
+      when(playerHand.canSplit()).thenReturn(true);
+      when(game.getChar()).thenReturn('p');
+
+      assertEquals(Action.SPLIT, game.getAction(game, playerHand));
+    }
+
+    @Test
+    @DisplayName("try to split hand that cannot split")
+    public void testTryToSplitHandThatCannotSplit() {
+      when(playerHand.canSplit()).thenReturn(false);
+      when(game.getChar()).thenReturn('p', 's');
+
+      assertEquals(Action.STAND, game.getAction(game, playerHand));
+    }
+
+    @Test
+    @DisplayName("split refused must not fall through to double")
+    public void testSplitRefusedDoesNotFallThroughToDouble() {
+      when(playerHand.canSplit()).thenReturn(false);
+      when(playerHand.canDbl()).thenReturn(true);
+      when(game.getChar()).thenReturn('p', 's');
+
+      assertEquals(Action.STAND, game.getAction(game, playerHand));
+    }
+
+    @Test
+    @DisplayName("hand can dbl")
+    public void testHandCanDbl() {
+      when(playerHand.canDbl()).thenReturn(true);
+      when(game.getChar()).thenReturn('d');
+
+      assertEquals(Action.DOUBLE, game.getAction(game, playerHand));
+    }
+
+    @Test
+    @DisplayName("try to dbl hand that cannot dbl")
+    public void testTryToDblHandThatCannotDbl() {
+      when(playerHand.canDbl()).thenReturn(false);
+      when(game.getChar()).thenReturn('d', 's');
+
+      assertEquals(Action.STAND, game.getAction(game, playerHand));
+    }
+
+    @Test
+    @DisplayName("handle invalid input")
+    public void testHandleInvalidInput() {
+      when(game.getChar()).thenReturn('x', 's');
+
+      assertEquals(Action.STAND, game.getAction(game, playerHand));
+      verify(game, times(2)).drawHands();
     }
   }
 
@@ -811,6 +841,22 @@ public class GameTest {
       assertInstanceOf(IOException.class, exception.getCause());
       verify(reader).read();
     }
+
+    @Test
+    @DisplayName("getChar should skip line endings sent by line-buffered clients")
+    void testGetCharSkipsLineEndings() {
+      Game session = new Game(new BufferedReader(new StringReader("\r\nx")), new PrintStream(outputStream), null);
+
+      assertEquals('x', session.getChar());
+    }
+
+    @Test
+    @DisplayName("getChar should throw once the input is closed")
+    void testGetCharEndOfInput() {
+      Game session = new Game(new BufferedReader(new StringReader("")), new PrintStream(outputStream), null);
+
+      assertThrows(UncheckedIOException.class, session::getChar);
+    }
   }
 
   @Nested
@@ -826,13 +872,47 @@ public class GameTest {
           setField(game, "quitting", true);
         }
 
-        return null;
+        return GameState.DEAL;
       }).given(game).dealNewHand();
 
       game.loop();
 
       verify(game, times(2)).dealNewHand();
     }
+
+    @Test
+    @DisplayName("loop should step through menus until the player quits")
+    void testLoopStates() {
+      doReturn(GameState.BET_OPTIONS).when(game).dealNewHand();
+      doNothing().when(game).drawHands();
+      when(game.getChar()).thenReturn('o', 'x', 'n', '4', 'b', 'x', 'q');
+
+      game.loop();
+
+      assertEquals(4, game.getNumDecks());
+      verify(game, times(1)).dealNewHand();
+      verify(game, times(3)).gameOptions();
+      verify(game, times(3)).betOptions();
+    }
+
+    @Test
+    @DisplayName("loop should handle a long run of invalid keys without recursing")
+    void testLoopInvalidKeys() {
+      Game session = new Game(new BufferedReader(new StringReader("x".repeat(100000) + "q")), new PrintStream(outputStream), null) {
+        @Override
+        public GameState dealNewHand() {
+          return GameState.BET_OPTIONS;
+        }
+
+        @Override
+        public void drawHands() {
+        }
+      };
+
+      session.loop();
+
+      assertTrue(outputStream.toString().endsWith("\033[H\033[2J"));
+    }
   }
 
   @Nested
@@ -851,21 +931,69 @@ public class GameTest {
     @DisplayName("saveGame should save the game state to a file")
     public void testSaveGame() throws IOException {
       game.saveGame();
+      game.flushSaves();
 
       String savedContent = readSaveFile();
       assertEquals("1|10000|500|1|1", savedContent);
     }
 
     @Test
-    @DisplayName("saveGame should ignore exception if the save file cannot be written")
-    public void testSaveGameCannotWriteFile() throws IOException {
-      File mockFile = new File(SAVE_FILE);
-      assertTrue(mockFile.createNewFile());
-      assertTrue(mockFile.setReadOnly());
-
+    @DisplayName("saveGame should save a custom composition after the other settings")
+    public void testSaveGameCustomComposition() throws IOException {
+      game.setComposition(Composition.parse("-5"));
       game.saveGame();
+      game.flushSaves();
+
+      assertEquals("1|10000|500|0|1|" + Composition.parse("-5"), readSaveFile());
+    }
 
-      assertTrue(mockFile.setWritable(true));
+    @Test
+    @DisplayName("saveGame should not write anything without a save file")
+    public void testSaveGameWithoutSaveFile() {
+      Game session = new Game(new BufferedReader(new StringReader("")), new PrintStream(outputStream), null);
+
+      session.saveGame();
+
+      assertFalse(new File(SAVE_FILE).exists());
+    }
+
+    @Test
+    @DisplayName("saveGame should log rather than throw if the save file cannot be written")
+    public void testSaveGameCannotWriteFile() {
+      // A directory in the way of the temporary file fails the write whatever the user may write to.
+      File blocker = new File(SAVE_FILE + ".tmp");
+      assertTrue(blocker.mkdir());
+
+      List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+      Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+          records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+      };
+      Logger logger = Logger.getLogger(Game.class.getName());
+      logger.addHandler(handler);
+
+      try {
+        game.saveGame();
+        game.flushSaves();
+      } finally {
+        logger.removeHandler(handler);
+        assertTrue(blocker.delete());
+      }
+
+      assertEquals(1, records.size());
+      assertEquals(Level.WARNING, records.get(0).getLevel());
+      assertInstanceOf(IOException.class, records.get(0).getThrown());
+      assertFalse(new File(SAVE_FILE).exists());
     }
   }
 
@@ -907,6 +1035,18 @@ public class GameTest {
       assertEquals(2, getField(game, "faceType", Integer.class));
     }
 
+    @Test
+    @DisplayName("loadGame should load a custom composition")
+    public void testLoadGameWithComposition() throws IOException {
+      createSaveFile("2|10000|500|0|1|*=0,A=26,J=26");
+
+      game.loadGame();
+
+      assertEquals(2, game.getNumDecks());
+      assertEquals(Composition.CUSTOM, game.getDeckType());
+      assertSame(Composition.parse("*=0,A=26,J=26"), game.getComposition());
+    }
+
     @Test
     @DisplayName("loadGame should not throw an exception if the save file does not exist")
     public void testLoadGameWithNoSaveFile() {
@@ -919,6 +1059,31 @@ public class GameTest {
       assertEquals(1, getField(game, "faceType", Integer.class));
     }
 
+    @Test
+    @DisplayName("loadGame should not read any file for a session without one")
+    public void testLoadGameWithoutSaveFile() throws IOException {
+      createSaveFile("8|20000|1000|1|2");
+      Game session = new Game(new BufferedReader(new StringReader("")), new PrintStream(outputStream), null);
+
+      session.loadGame();
+
+      assertEquals(1, session.getNumDecks());
+      assertEquals(10000, session.getMoney());
+      assertEquals(500, session.getCurrentBet());
+    }
+
+    @Test
+    @DisplayName("loadGame should ignore an empty save file")
+    public void testLoadGameWithEmptySaveFile() throws IOException {
+      createSaveFile("");
+
+      game.loadGame();
+
+      assertEquals(1, game.getNumDecks());
+      assertEquals(10000, game.getMoney());
+      assertEquals(500, game.getCurrentBet());
+    }
+
     @Test
     @DisplayName("loadGame should not load save file if it's malformed")
     public void testLoadGameWithMalformedSaveFile() throws IOException {
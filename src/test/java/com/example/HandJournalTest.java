@@ -0,0 +1,143 @@
+package com.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandJournalTest {
+  private Path dir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dir = Files.createTempDirectory("journal");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  private RoundEngine record(HandJournal journal, int rounds) {
+    RoundEngine engine = new RoundEngine(new Rules(2, 1), 11L);
+    BasicStrategy strategy = new BasicStrategy();
+    engine.setJournal(journal);
+
+    for (int i = 0; i < rounds; i++) {
+      engine.setMoney(10000);
+      engine.play(strategy);
+    }
+
+    return engine;
+  }
+
+  @Test
+  @DisplayName("recordRound should write the shoe and the last round as committed records")
+  void testRecordRound() throws IOException {
+    RoundEngine engine;
+
+    try (HandJournal journal = new HandJournal(dir)) {
+      engine = record(journal, 1);
+      assertEquals(1, journal.getRounds());
+    }
+
+    ByteBuffer segment = HandJournal.map(dir.resolve("00000000.journal"));
+    int p = HandJournal.HEADER_SIZE;
+
+    assertEquals(HandJournal.SHOE, segment.get(p));
+    assertEquals(0, segment.get(p + 1));
+    assertEquals(engine.getShoe().getSeed(), segment.getLong(p + 2));
+    assertEquals(2, segment.get(p + 10));
+    assertEquals(engine.getShoe().getCut(), segment.getInt(p + 12));
+    p += HandJournal.SHOE_SIZE;
+
+    assertEquals(HandJournal.ROUND, segment.get(p));
+    assertEquals(10000, segment.getInt(p + 3));
+    assertEquals(500, segment.getInt(p + 7));
+    assertEquals(engine.getMoney(), segment.getInt(p + 11));
+    assertEquals(engine.getActionCount(), segment.get(p + 18));
+
+    int cards = p + 19 + engine.getActionCount();
+    assertEquals(engine.getDealerHand().cards.size(), segment.get(cards));
+    assertEquals(engine.getDealerHand().cards.get(0).id(), segment.get(cards + 1));
+
+    int end = p + (segment.getShort(p + 1) & 0xffff);
+    assertEquals(HandJournal.END, segment.get(end));
+    assertEquals(1, HandJournal.countRounds(segment));
+  }
+
+  @Test
+  @DisplayName("recordRound should roll over to a new segment when the current one is full")
+  void testSegmentRoll() throws IOException {
+    try (HandJournal journal = new HandJournal(dir, 8192)) {
+      record(journal, 2000);
+      assertEquals(2000, journal.getRounds());
+    }
+
+    List<Path> segments = HandJournal.segments(dir);
+    assertTrue(segments.size() > 1);
+
+    long rounds = 0;
+    for (Path path : segments) {
+      ByteBuffer segment = HandJournal.map(path);
+      assertEquals(rounds, segment.getLong(8));
+      rounds += HandJournal.countRounds(segment);
+    }
+
+    assertEquals(2000, rounds);
+  }
+
+  @Test
+  @DisplayName("a reopened journal should continue the round numbering in a new segment")
+  void testReopen() throws IOException {
+    try (HandJournal journal = new HandJournal(dir, 8192)) {
+      record(journal, 10);
+    }
+
+    try (HandJournal journal = new HandJournal(dir, 8192)) {
+      assertEquals(10, journal.getRounds());
+      record(journal, 5);
+      assertEquals(15, journal.getRounds());
+    }
+
+    List<Path> segments = HandJournal.segments(dir);
+    assertEquals(2, segments.size());
+    assertEquals(10, HandJournal.map(segments.get(1)).getLong(8));
+  }
+
+  @Test
+  @DisplayName("play should record the actions and the insurance decision")
+  void testPlayRecordsActions() {
+    RoundEngine engine = new RoundEngine(new Rules(1, 2), 5L);
+
+    engine.play(new Decider() {
+      @Override
+      public boolean takeInsurance(RoundEngine engine) {
+        return false;
+      }
+
+      @Override
+      public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+        return Action.STAND;
+      }
+    });
+
+    assertEquals(RoundEngine.INSURANCE_OFFERED, engine.getInsurance());
+    assertEquals(1, engine.getActionCount());
+    assertEquals(Action.STAND, engine.getAction(0));
+  }
+}
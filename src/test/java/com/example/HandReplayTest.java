@@ -0,0 +1,183 @@
+package com.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandReplayTest {
+  private static final int ROUNDS = 20000;
+  private Path dir;
+  private List<Integer> money;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dir = Files.createTempDirectory("replay");
+    money = new ArrayList<>();
+
+    RoundEngine engine = new RoundEngine(new Rules(1, 1), 17L);
+    BasicStrategy strategy = new BasicStrategy();
+
+    try (HandJournal journal = new HandJournal(dir, 1 << 16)) {
+      engine.setJournal(journal);
+
+      for (int i = 0; i < ROUNDS; i++) {
+        if (i == 5000) {
+          engine.setNumDecks(6);
+        } else if (i == 9000) {
+          engine.setDeckType(2);
+          engine.setNumDecks(8);
+          engine.getShoe().buildNewShoe(2);
+        } else if (i == 9500) {
+          engine.setDeckType(1);
+          engine.getShoe().buildNewShoe(1);
+        } else if (i == 14000) {
+          engine.setComposition(Composition.parse("-5,A=8"));
+          engine.getShoe().buildNewShoe(engine.getDeckType());
+        }
+
+        engine.setMoney(10000);
+        engine.play(strategy);
+        money.add(engine.getMoney());
+      }
+    }
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("next should replay every recorded round with the recorded outcome")
+  void testNext() throws IOException {
+    HandReplay replay = new HandReplay(dir);
+    int rounds = 0;
+
+    while (replay.next()) {
+      assertEquals(rounds, replay.getRound());
+      assertEquals(money.get(rounds), replay.getEngine().getMoney());
+      assertEquals(replay.getRecordedMoney(), replay.getEngine().getMoney());
+      rounds++;
+    }
+
+    assertEquals(ROUNDS, rounds);
+    assertFalse(replay.next());
+  }
+
+  @Test
+  @DisplayName("seek should continue from the requested round")
+  void testSeek() throws IOException {
+    HandReplay replay = new HandReplay(dir);
+
+    for (long target : new long[]{12345, 3, 9200, 19999, 17000, 0}) {
+      replay.seek(target);
+
+      assertTrue(replay.next());
+      assertEquals(target, replay.getRound());
+      assertEquals(money.get((int) target), replay.getEngine().getMoney());
+    }
+
+    replay.seek(ROUNDS);
+    assertFalse(replay.next());
+  }
+
+  @Test
+  @DisplayName("replay should let an engine pay the recorded hands under other rules")
+  void testReplayUnderOtherRules() throws IOException {
+    HandReplay replay = new HandReplay(dir, random -> new RoundEngine(new Rules(1, 1), random) {
+      @Override
+      public void payHands() {
+        for (PlayerHand playerHand : getPlayerHands()) {
+          if (!playerHand.isPaid() && playerHand.isBlackjack()) {
+            playerHand.setBet(playerHand.getBet() * 4 / 5);
+          }
+        }
+
+        super.payHands();
+      }
+    });
+    replay.setVerifyPayouts(false);
+    int changed = 0;
+
+    while (replay.next()) {
+      if (replay.getEngine().getMoney() != replay.getRecordedMoney()) {
+        changed++;
+      }
+    }
+
+    assertTrue(changed > 0);
+  }
+
+  @Test
+  @DisplayName("next should reject a round whose cards do not follow from the recorded shoe")
+  void testNextTampered() throws IOException {
+    Path first = HandJournal.segments(dir).get(0);
+
+    try (FileChannel channel = FileChannel.open(first, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      int p = HandJournal.HEADER_SIZE + HandJournal.SHOE_SIZE;
+      int dealer = p + 19 + segment.get(p + 18);
+      segment.put(dealer + 1, (byte) ((segment.get(dealer + 1) + 4) % 52));
+    }
+
+    HandReplay replay = new HandReplay(dir);
+
+    assertThrows(IllegalStateException.class, replay::next);
+  }
+
+  @Test
+  @DisplayName("next should reject a round that pays differently than recorded")
+  void testNextPaysDifferently() throws IOException {
+    HandReplay replay = new HandReplay(dir, random -> new RoundEngine(new Rules(1, 1), random) {
+      @Override
+      public void payHands() {
+        super.payHands();
+        setMoney(getMoney() + 1);
+      }
+    });
+
+    assertThrows(IllegalStateException.class, replay::next);
+  }
+
+  @Test
+  @DisplayName("next should reject a hand whose recorded bet was changed")
+  void testNextTamperedBet() throws IOException {
+    Path first = HandJournal.segments(dir).get(0);
+
+    try (FileChannel channel = FileChannel.open(first, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      int p = HandJournal.HEADER_SIZE + HandJournal.SHOE_SIZE;
+      int dealer = p + 19 + segment.get(p + 18);
+      int hand = dealer + 1 + segment.get(dealer) + 1;
+      int bet = hand + 1 + segment.get(hand);
+      segment.putInt(bet, segment.getInt(bet) + 1);
+    }
+
+    HandReplay replay = new HandReplay(dir);
+
+    assertThrows(IllegalStateException.class, replay::next);
+
+    replay = new HandReplay(dir);
+    replay.setVerifyPayouts(false);
+
+    assertTrue(replay.next());
+  }
+}
@@ -24,49 +24,15 @@ class HandTest {
     assertTrue(hand.cards.isEmpty());
     assertFalse(hand.stood);
     assertFalse(hand.played);
-    assertEquals(mockGame, hand.game);
-  }
-
-  @Test
-  @DisplayName("clone() should create deep copy")
-  void testClone() {
-    Card card = new Card(0, 0);
-    hand.cards.add(card);
-    hand.stood = true;
-    hand.played = true;
-
-    Hand cloned = hand.clone();
-
-    assertEquals(hand.cards.size(), cloned.cards.size());
-    assertEquals(hand.cards.get(0).value(), cloned.cards.get(0).value());
-    assertEquals(hand.cards.get(0).suit(), cloned.cards.get(0).suit());
-    assertEquals(hand.stood, cloned.stood);
-    assertEquals(hand.played, cloned.played);
-    assertEquals(hand.game, cloned.game);
-
-    assertNotSame(hand.cards, cloned.cards);
-  }
-
-  @Test
-  @DisplayName("clone() should throw AssertionError if CloneNotSupportedException occurs")
-  void testCloneError() {
-    Game mockGame = Mockito.mock(Game.class);
-    Hand hand = Mockito.spy(new Hand(mockGame));
-    try {
-      Mockito.when(hand.superClone()).thenThrow(new CloneNotSupportedException("Test exception"));
-    } catch (CloneNotSupportedException e) {
-      fail("Unexpected exception during test setup");
-    }
-
-    assertThrows(AssertionError.class, hand::clone);
+    assertEquals(mockGame, hand.engine);
   }
 
   @Test
   @DisplayName("calculateValue should handle hard count correctly")
   void testCalculateValueHard() {
-    hand.cards.add(new Card(0, 0));
-    hand.cards.add(new Card(9, 0));
-    hand.cards.add(new Card(8, 0));
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(9, 0));
+    hand.addCard(new Card(8, 0));
 
     assertEquals(20, hand.calculateValue(CountMethod.HARD, false));
   }
@@ -74,8 +40,8 @@ class HandTest {
   @Test
   @DisplayName("calculateValue should handle soft count correctly")
   void testCalculateValueSoft() {
-    hand.cards.add(new Card(0, 0));
-    hand.cards.add(new Card(5, 0));
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(5, 0));
 
     assertEquals(17, hand.calculateValue(CountMethod.SOFT, false));
   }
@@ -83,9 +49,9 @@ class HandTest {
   @Test
   @DisplayName("calculateValue should handle multiple aces correctly")
   void testCalculateValueMultipleAces() {
-    hand.cards.add(new Card(0, 0));
-    hand.cards.add(new Card(0, 1));
-    hand.cards.add(new Card(3, 0));
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(0, 1));
+    hand.addCard(new Card(3, 0));
 
     assertEquals(16, hand.calculateValue(CountMethod.SOFT, false));
   }
@@ -93,9 +59,9 @@ class HandTest {
   @Test
   @DisplayName("calculateValue should handle skipHiddenCard correctly")
   void testCalculateValueSkipHidden() {
-    hand.cards.add(new Card(9, 0));
-    hand.cards.add(new Card(0, 0));
-    hand.cards.add(new Card(5, 0));
+    hand.addCard(new Card(9, 0));
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(5, 0));
 
     assertEquals(16, hand.calculateValue(CountMethod.SOFT, true));
   }
@@ -103,11 +69,24 @@ class HandTest {
   @Test
   @DisplayName("calculateValue should switch to hard count when soft count exceeds 21")
   void testCalculateValueSoftToHard() {
-    hand.cards.add(new Card(0, 0));
-    hand.cards.add(new Card(9, 0));
-    hand.cards.add(new Card(8, 0));
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(9, 0));
+    hand.addCard(new Card(8, 0));
+
+    assertEquals(20, hand.calculateValue(CountMethod.SOFT, false));
+  }
 
+  @Test
+  @DisplayName("removeCard should keep the running totals in step")
+  void testRemoveCard() {
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(8, 0));
     assertEquals(20, hand.calculateValue(CountMethod.SOFT, false));
+
+    assertEquals(new Card(0, 0), hand.removeCard(0));
+    assertEquals(9, hand.calculateValue(CountMethod.SOFT, false));
+    assertEquals(9, hand.calculateValue(CountMethod.HARD, false));
+    assertEquals(1, hand.cards.size());
   }
 
   @Test
@@ -124,23 +103,38 @@ class HandTest {
     assertEquals(card, hand.cards.get(0));
   }
 
+  @Test
+  @DisplayName("dealCard should rebuild the shoe when it runs out mid-round")
+  void testDealCardEmptyShoe() {
+    Shoe mockShoe = Mockito.mock(Shoe.class);
+    Card card = new Card(0, 0);
+    Mockito.when(mockGame.getShoe()).thenReturn(mockShoe);
+    Mockito.when(mockGame.getDeckType()).thenReturn(1);
+    Mockito.when(mockShoe.getNextCard()).thenReturn(null, card);
+
+    hand.dealCard();
+
+    Mockito.verify(mockShoe).buildNewShoe(1);
+    assertEquals(card, hand.cards.get(0));
+  }
+
   @Test
   @DisplayName("isBlackjack should correctly identify blackjack hands")
   void testIsBlackjack() {
 
-    hand.cards.add(new Card(0, 0));
-    hand.cards.add(new Card(9, 0));
+    hand.addCard(new Card(0, 0));
+    hand.addCard(new Card(9, 0));
     assertTrue(hand.isBlackjack());
 
     hand = new Hand(mockGame);
-    hand.cards.add(new Card(9, 0));
-    hand.cards.add(new Card(9, 1));
-    hand.cards.add(new Card(0, 0));
+    hand.addCard(new Card(9, 0));
+    hand.addCard(new Card(9, 1));
+    hand.addCard(new Card(0, 0));
     assertFalse(hand.isBlackjack());
 
     hand = new Hand(mockGame);
-    hand.cards.add(new Card(9, 0));
-    hand.cards.add(new Card(8, 0));
+    hand.addCard(new Card(9, 0));
+    hand.addCard(new Card(8, 0));
     assertFalse(hand.isBlackjack());
   }
 
@@ -0,0 +1,36 @@
+package com.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+  @Test
+  @DisplayName("put should drop the eldest entry past the maximum size")
+  void testBounded() {
+    LruCache<Integer, String> cache = new LruCache<>(2);
+
+    cache.put(1, "a");
+    cache.put(2, "b");
+    cache.put(3, "c");
+
+    assertEquals(2, cache.size());
+    assertFalse(cache.containsKey(1));
+    assertTrue(cache.containsKey(3));
+  }
+
+  @Test
+  @DisplayName("get should keep recently used entries")
+  void testRecentlyUsed() {
+    LruCache<Integer, String> cache = new LruCache<>(2);
+
+    cache.put(1, "a");
+    cache.put(2, "b");
+    cache.get(1);
+    cache.put(3, "c");
+
+    assertTrue(cache.containsKey(1));
+    assertFalse(cache.containsKey(2));
+  }
+}
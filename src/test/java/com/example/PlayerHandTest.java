@@ -43,15 +43,23 @@ class PlayerHandTest {
   }
 
   @Test
-  @DisplayName("Clone should create deep copy with shared game reference")
-  void testClone() {
+  @DisplayName("reset should empty the hand and restore the table bet")
+  void testReset() {
     playerHand.dealCards(2);
-    PlayerHand cloned = playerHand.clone();
+    playerHand.stand();
+    playerHand.setBet(1000);
+    playerHand.setStatus(HandStatus.WON);
+    playerHand.setPaid(true);
 
-    assertEquals(2, cloned.getCards().size());
-    assertEquals(playerHand.getCards(), cloned.getCards());
-    assertEquals(playerHand.getBet(), cloned.getBet());
-    assertEquals(playerHand.isPaid(), cloned.isPaid());
+    playerHand.reset();
+
+    assertTrue(playerHand.getCards().isEmpty());
+    assertEquals(500, playerHand.getBet());
+    assertEquals(HandStatus.UNKNOWN, playerHand.getStatus());
+    assertFalse(playerHand.isPaid());
+    assertFalse(playerHand.stood);
+    assertFalse(playerHand.played);
+    assertEquals(0, playerHand.getValue(CountMethod.HARD));
   }
 
   @Test
@@ -96,8 +104,6 @@ class PlayerHandTest {
 
     @BeforeEach
     void setUp() {
-      when(game.cardFace(any(Integer.class), any(Integer.class))).thenCallRealMethod();
-
       playerHands.add(playerHand);
       when(game.getPlayerHands()).thenReturn(playerHands);
       when(game.getCurrentHand()).thenReturn(0);
@@ -198,115 +204,6 @@ class PlayerHandTest {
     }
   }
 
-  @Nested
-  @DisplayName("getAction Tests")
-  class GetActionTests {
-    @Test
-    @DisplayName("show all options")
-    public void testMenuShowsAllOptionsWhenAllAvailable() {
-      when(playerHand.canSplit()).thenReturn(true);
-      when(playerHand.canDbl()).thenReturn(true);
-
-      doNothing().when(playerHand).hit();
-      when(game.getChar()).thenReturn('h');
-
-      playerHand.getAction();
-
-      assertEquals(" (H) Hit  (S) Stand  (P) Split  (D) Double\n", outputStream.toString());
-    }
-
-    @Test
-    @DisplayName("cannot dbl or split")
-    public void testMenuShowsCannotDblOrSplit() {
-      when(playerHand.canSplit()).thenReturn(false);
-      when(playerHand.canDbl()).thenReturn(false);
-
-      doNothing().when(playerHand).stand();
-      when(game.getChar()).thenReturn('s');
-
-      playerHand.getAction();
-      assertEquals(" (H) Hit  (S) Stand  \n", outputStream.toString());
-
-      verify(playerHand).stand();
-    }
-
-    @Test
-    @DisplayName("hand can be split")
-    public void testHandCanBeSplit() {
-      when(playerHand.canSplit()).thenReturn(true);
-      doNothing().when(game).splitCurrentHand();
-      when(game.getChar()).thenReturn('p');
-
-      playerHand.getAction();
-
-      verify(game).splitCurrentHand();
-    }
-
-    @Test
-    @DisplayName("try to split hand that cannot split")
-    public void testTryToSplitHandThatCannotSplit() {
-      doNothing().when(game).splitCurrentHand();
-      doNothing().when(playerHand).stand();
-      when(game.getChar()).thenReturn('p', 's');
-
-      playerHand.getAction();
-
-      verify(game, never()).splitCurrentHand();
-    }
-
-    @Test
-    @DisplayName("split refused must not fall through to double")
-    public void testSplitRefusedDoesNotFallThroughToDouble() {
-      when(playerHand.canSplit()).thenReturn(false);
-      when(playerHand.canDbl()).thenReturn(true);
-      doNothing().when(game).splitCurrentHand();
-      doNothing().when(playerHand).dbl();
-      doNothing().when(playerHand).stand();
-      when(game.getChar()).thenReturn('p', 's');
-
-      playerHand.getAction();
-
-      verify(game, never()).splitCurrentHand();
-      verify(playerHand, never()).dbl();
-      verify(playerHand).stand();
-    }
-
-    @Test
-    @DisplayName("hand can dbl")
-    public void testHandCanDbl() {
-      when(playerHand.canDbl()).thenReturn(true);
-      doNothing().when(playerHand).dbl();
-      when(game.getChar()).thenReturn('d');
-
-      playerHand.getAction();
-
-      verify(playerHand).dbl();
-    }
-
-    @Test
-    @DisplayName("try to dbl hand that cannot dbl")
-    public void testTryToSplitHandThatCannotDbl() {
-      doNothing().when(playerHand).dbl();
-      doNothing().when(playerHand).stand();
-      when(game.getChar()).thenReturn('d', 's');
-
-      playerHand.getAction();
-
-      verify(playerHand, never()).dbl();
-    }
-
-    @Test
-    @DisplayName("handle invalid input")
-    public void testHandleInvalidInput() {
-      doNothing().when(playerHand).stand();
-      when(game.getChar()).thenReturn('x', 's');
-
-      playerHand.getAction();
-
-      verify(playerHand).stand();
-    }
-  }
-
   @Nested
   @DisplayName("dbl Tests")
   class DoubleTests {
@@ -314,33 +211,12 @@ class PlayerHandTest {
     @DisplayName("dbl should deal card, double bet, and mark as played")
     void testDbl() {
       doNothing().when(playerHand).dealCard();
-      doNothing().when(playerHand).process();
       playerHand.setBet(1000);
       playerHand.dbl();
 
       assertEquals(2000, playerHand.getBet());
       assertTrue(playerHand.played);
-    }
-
-    @Test
-    @DisplayName("double should process hand if done")
-    void testDblProcessesWhenDone() {
-      doNothing().when(playerHand).dealCard();
-      doReturn(true).when(playerHand).isDone();
-      doNothing().when(playerHand).process();
-      playerHand.dbl();
-
-      verify(playerHand).process();
-    }
-
-    @Test
-    @DisplayName("double should not process hand if not done")
-    void testDblDoesNotProcessWhenNotDone() {
-      doNothing().when(playerHand).dealCard();
-      doReturn(false).when(playerHand).isDone();
-      playerHand.dbl();
-
-      verify(playerHand, never()).process();
+      verify(playerHand).dealCard();
     }
   }
 
@@ -348,99 +224,29 @@ class PlayerHandTest {
   @DisplayName("Hit Tests")
   class HitTests {
     @Test
-    @DisplayName("hit should process and not continue when done")
-    void testHitProcessesWhenDone() {
+    @DisplayName("hit should deal one card and leave the hand in play")
+    void testHit() {
       doNothing().when(playerHand).dealCard();
-      doReturn(true).when(playerHand).isDone();
-      doNothing().when(playerHand).process();
 
       playerHand.hit();
 
+      verify(playerHand).dealCard();
+      assertFalse(playerHand.played);
       verify(game, never()).drawHands();
-      verify(game, never()).getPlayerHands();
-    }
-
-    @Test
-    @DisplayName("hit should continue to next action when not done")
-    void testHitContinuesWhenNotDone() {
-      ArrayList<PlayerHand> playerHands = new ArrayList<>();
-      playerHands.add(playerHand);
-      when(game.getPlayerHands()).thenReturn(playerHands);
-      when(game.getCurrentHand()).thenReturn(0);
-      doNothing().when(playerHand).dealCard();
-      doReturn(false).when(playerHand).isDone();
-      doNothing().when(playerHand).getAction();
-
-      playerHand.hit();
-
-      verify(game).drawHands();
-      verify(playerHand).getAction();
     }
   }
 
   @Nested
   @DisplayName("Stand Tests")
   class StandTests {
-    @AfterEach
-    void tearDown() {
-      assertTrue(playerHand.stood);
-      assertTrue(playerHand.played);
-    }
-
     @Test
     @DisplayName("stand should mark hand as stood and played")
     void testStandMarksHandStatus() {
-      doNothing().when(game).playMoreHands();
-      when(game.moreHandsToPlay()).thenReturn(true);
-
       playerHand.stand();
 
-      verify(game).playMoreHands();
+      assertTrue(playerHand.stood);
+      assertTrue(playerHand.played);
       verify(game, never()).playDealerHand();
-      verify(game, never()).drawHands();
-      verify(game, never()).betOptions();
-    }
-
-    @Test
-    @DisplayName("stand and do not play more hands unless required")
-    void testStandPlaysMoreHandsWhenAvailable() {
-      doNothing().when(game).playDealerHand();
-      doNothing().when(game).drawHands();
-      doNothing().when(game).betOptions();
-      when(game.moreHandsToPlay()).thenReturn(false);
-
-      playerHand.stand();
-
-      verify(game, never()).playMoreHands();
-      verify(game).playDealerHand();
-      verify(game).drawHands();
-      verify(game).betOptions();
-    }
-  }
-
-  @Nested
-  @DisplayName("process Tests")
-  class ProcessTests {
-    @Test
-    @DisplayName("when more hands to play plays more hands")
-    void testPlaysMoreHands() {
-      when(game.moreHandsToPlay()).thenReturn(true);
-      doNothing().when(game).playMoreHands();
-      playerHand.process();
-
-      verify(game).playMoreHands();
-    }
-
-    @Test
-    @DisplayName("when no more hands to play does not play more hands")
-    void testNoMoreHandsToPlay() {
-      doNothing().when(game).playDealerHand();
-      doNothing().when(game).drawHands();
-      doNothing().when(game).betOptions();
-      when(game.moreHandsToPlay()).thenReturn(false);
-      playerHand.process();
-
-      verify(game, never()).playMoreHands();
     }
   }
 
@@ -487,11 +293,6 @@ class PlayerHandTest {
           new Card(3, 0));
       playerHand.dealCards(2);
 
-      when(game.moreHandsToPlay()).thenReturn(false);
-      doNothing().when(game).playDealerHand();
-      doNothing().when(game).drawHands();
-      doNothing().when(game).betOptions();
-
       playerHand.stand();
 
       assertFalse(playerHand.canDbl());
@@ -556,11 +357,6 @@ class PlayerHandTest {
           new Card(2, 1));
       playerHand.dealCards(2);
 
-      when(game.moreHandsToPlay()).thenReturn(false);
-      doNothing().when(game).playDealerHand();
-      doNothing().when(game).drawHands();
-      doNothing().when(game).betOptions();
-
       playerHand.stand();
 
       assertFalse(playerHand.canSplit());
@@ -0,0 +1,260 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundEngineTest {
+  private StackedShoe shoe;
+  private RoundEngine engine;
+
+  private static class StackedShoe extends Shoe {
+    private final ArrayDeque<Card> stack = new ArrayDeque<>();
+
+    StackedShoe(RoundEngine engine) {
+      super(engine);
+    }
+
+    void stack(Card... cards) {
+      stack.addAll(Arrays.asList(cards));
+    }
+
+    @Override
+    public boolean needToShuffle() {
+      return false;
+    }
+
+    @Override
+    public Card getNextCard() {
+      return stack.poll();
+    }
+  }
+
+  private static class ScriptedDecider implements Decider {
+    private final boolean insurance;
+    private final ArrayDeque<Action> actions;
+    private final List<Action> asked = new ArrayList<>();
+
+    ScriptedDecider(boolean insurance, Action... actions) {
+      this.insurance = insurance;
+      this.actions = new ArrayDeque<>(Arrays.asList(actions));
+    }
+
+    @Override
+    public boolean takeInsurance(RoundEngine engine) {
+      return insurance;
+    }
+
+    @Override
+    public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+      Action action = actions.remove();
+      asked.add(action);
+      return action;
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    engine = new RoundEngine(new Rules(1, 1)) {
+      @Override
+      public Shoe getShoe() {
+        return shoe;
+      }
+    };
+    shoe = new StackedShoe(engine);
+  }
+
+  @Test
+  @DisplayName("play should pay a natural 3:2 without asking the decider")
+  void testPlayPlayerBlackjack() {
+    shoe.stack(new Card(0, 0), new Card(9, 0), new Card(12, 0), new Card(6, 0));
+    ScriptedDecider decider = new ScriptedDecider(false);
+
+    engine.play(decider);
+
+    assertTrue(decider.asked.isEmpty());
+    assertEquals(10750, engine.getMoney());
+    assertEquals(HandStatus.WON, engine.getPlayerHands().get(0).getStatus());
+  }
+
+  @Test
+  @DisplayName("play should stand and let the dealer draw to 17")
+  void testPlayStandDealerDraws() {
+    shoe.stack(
+        new Card(9, 0), new Card(9, 1),
+        new Card(7, 0), new Card(3, 0),
+        new Card(2, 0));
+    ScriptedDecider decider = new ScriptedDecider(false, Action.STAND);
+
+    engine.play(decider);
+
+    assertEquals(List.of(Action.STAND), decider.asked);
+    assertEquals(3, engine.getDealerHand().cards.size());
+    assertEquals(17, engine.getDealerHand().getValue(CountMethod.SOFT));
+    assertEquals(10500, engine.getMoney());
+  }
+
+  @Test
+  @DisplayName("play should settle insurance when the player takes it")
+  void testPlayInsurance() {
+    shoe.stack(new Card(9, 0), new Card(0, 0), new Card(7, 0), new Card(9, 1));
+
+    engine.play(new ScriptedDecider(true));
+
+    assertEquals(9750, engine.getMoney());
+    assertEquals(HandStatus.LOST, engine.getPlayerHands().get(0).getStatus());
+  }
+
+  @Test
+  @DisplayName("play should pay a dealer blackjack when insurance is declined")
+  void testPlayDealerBlackjack() {
+    shoe.stack(new Card(9, 0), new Card(0, 0), new Card(7, 0), new Card(9, 1));
+    ScriptedDecider decider = new ScriptedDecider(false);
+
+    engine.play(decider);
+
+    assertTrue(decider.asked.isEmpty());
+    assertEquals(9500, engine.getMoney());
+  }
+
+  @Test
+  @DisplayName("play should double the bet and deal exactly one card")
+  void testPlayDouble() {
+    shoe.stack(
+        new Card(4, 0), new Card(9, 0),
+        new Card(5, 0), new Card(6, 0),
+        new Card(9, 1));
+
+    engine.play(new ScriptedDecider(false, Action.DOUBLE));
+
+    PlayerHand playerHand = engine.getPlayerHands().get(0);
+    assertEquals(3, playerHand.getCards().size());
+    assertEquals(1000, playerHand.getBet());
+    assertEquals(11000, engine.getMoney());
+  }
+
+  @Test
+  @DisplayName("play should split a pair and play each hand in turn")
+  void testPlaySplit() {
+    shoe.stack(
+        new Card(7, 0), new Card(9, 0),
+        new Card(7, 1), new Card(6, 0),
+        new Card(9, 1), new Card(9, 2));
+    ScriptedDecider decider = new ScriptedDecider(false, Action.SPLIT, Action.STAND, Action.STAND);
+
+    engine.play(decider);
+
+    assertEquals(List.of(Action.SPLIT, Action.STAND, Action.STAND), decider.asked);
+    assertEquals(2, engine.getPlayerHands().size());
+    assertEquals(18, engine.getPlayerHands().get(0).getValue(CountMethod.SOFT));
+    assertEquals(18, engine.getPlayerHands().get(1).getValue(CountMethod.SOFT));
+    assertEquals(11000, engine.getMoney());
+  }
+
+  @Test
+  @DisplayName("play should reuse the table's hands from round to round")
+  void testPlayReusesHands() {
+    shoe.stack(
+        new Card(7, 0), new Card(9, 0),
+        new Card(7, 1), new Card(6, 0),
+        new Card(9, 1), new Card(9, 2));
+    engine.play(new ScriptedDecider(false, Action.SPLIT, Action.STAND, Action.STAND));
+
+    PlayerHand first = engine.getPlayerHands().get(0);
+    PlayerHand second = engine.getPlayerHands().get(1);
+    DealerHand dealer = engine.getDealerHand();
+
+    shoe.stack(new Card(4, 0), new Card(9, 0), new Card(4, 1), new Card(6, 0), new Card(9, 3), new Card(9, 2));
+    engine.play(new ScriptedDecider(false, Action.SPLIT, Action.STAND, Action.STAND));
+
+    assertSame(first, engine.getPlayerHands().get(0));
+    assertSame(second, engine.getPlayerHands().get(1));
+    assertSame(dealer, engine.getDealerHand());
+    assertEquals(new Card(4, 1), second.getCards().get(0));
+    assertEquals(500, second.getBet());
+    assertEquals(2, dealer.cards.size());
+  }
+
+  @Test
+  @DisplayName("deal should start every round from empty, unpaid hands")
+  void testDealResetsHands() {
+    shoe.stack(new Card(0, 0), new Card(9, 0), new Card(12, 0), new Card(6, 0));
+    engine.play(new ScriptedDecider(false));
+    assertEquals(HandStatus.WON, engine.getPlayerHands().get(0).getStatus());
+
+    engine.setCurrentBet(1000);
+    shoe.stack(new Card(3, 0), new Card(9, 1), new Card(4, 0), new Card(6, 1));
+    engine.deal();
+
+    PlayerHand playerHand = engine.getPlayerHands().get(0);
+    assertEquals(1, engine.getPlayerHands().size());
+    assertEquals(HandStatus.UNKNOWN, playerHand.getStatus());
+    assertFalse(playerHand.isPaid());
+    assertEquals(1000, playerHand.getBet());
+    assertEquals(9, playerHand.getValue(CountMethod.SOFT));
+    assertEquals(10, engine.getDealerHand().getValue(CountMethod.SOFT));
+  }
+
+  @Test
+  @DisplayName("splitCurrentHand should refuse to grow past the table's hand limit")
+  void testSplitHandLimit() {
+    for (int i = 0; i < 10; i++) {
+      shoe.stack(new Card(7, i % 4));
+    }
+
+    engine.deal();
+
+    for (int i = 1; i < RoundEngine.MAX_PLAYER_HANDS; i++) {
+      engine.splitCurrentHand();
+    }
+
+    assertEquals(RoundEngine.MAX_PLAYER_HANDS, engine.getPlayerHands().size());
+    assertThrows(IllegalStateException.class, () -> engine.splitCurrentHand());
+  }
+
+  @Test
+  @DisplayName("play should not draw dealer cards when every player hand busted")
+  void testPlayBusted() {
+    shoe.stack(
+        new Card(9, 0), new Card(9, 1),
+        new Card(5, 0), new Card(5, 1),
+        new Card(9, 2));
+
+    engine.play(new ScriptedDecider(false, Action.HIT));
+
+    assertEquals(2, engine.getDealerHand().cards.size());
+    assertEquals(HandStatus.LOST, engine.getPlayerHands().get(0).getStatus());
+    assertEquals(9500, engine.getMoney());
+  }
+
+  @Test
+  @DisplayName("play should reject an illegal action")
+  void testPlayIllegalAction() {
+    shoe.stack(new Card(9, 0), new Card(9, 1), new Card(5, 0), new Card(5, 1));
+
+    assertThrows(IllegalStateException.class,
+        () -> engine.play(new ScriptedDecider(false, Action.SPLIT)));
+  }
+
+  @Test
+  @DisplayName("deal should count the dealer down card only once it is revealed")
+  void testDealCountsDownCardOnReveal() {
+    RoundEngine counted = new RoundEngine(new Rules(1, 1), 7L);
+    counted.deal();
+
+    Shoe countedShoe = counted.getShoe();
+    assertEquals(49, countedShoe.getRemainingCards());
+
+    counted.getDealerHand().setHideDownCard(false);
+    counted.getDealerHand().setHideDownCard(false);
+
+    assertEquals(48, countedShoe.getRemainingCards());
+  }
+}
@@ -0,0 +1,92 @@
+package com.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavePersisterTest {
+  private Path dir;
+
+  // Filled on the writer thread, where a failed assertion would be lost; the tests check it after flush().
+  private final List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  void setUp() throws IOException {
+    dir = Files.createTempDirectory("save");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("save should write the data to the file")
+  void testSave() throws IOException {
+    SavePersister persister = new SavePersister(dir.resolve("blackjack.txt"), errors::add);
+
+    persister.save("1|10000|500|1|1");
+    persister.flush();
+
+    assertEquals(List.of(), errors);
+    assertEquals("1|10000|500|1|1", Files.readString(dir.resolve("blackjack.txt")));
+    assertFalse(Files.exists(dir.resolve("blackjack.txt.tmp")));
+    assertEquals(1, persister.getWrites());
+  }
+
+  @Test
+  @DisplayName("save should replace an existing file")
+  void testSaveReplacesFile() throws IOException {
+    Files.writeString(dir.resolve("blackjack.txt"), "8|500|500|1|1");
+    SavePersister persister = new SavePersister(dir.resolve("blackjack.txt"), errors::add);
+
+    persister.save("1|10000|500|1|1");
+    persister.flush();
+
+    assertEquals(List.of(), errors);
+    assertEquals("1|10000|500|1|1", Files.readString(dir.resolve("blackjack.txt")));
+  }
+
+  @Test
+  @DisplayName("save should coalesce saves queued behind a pending write")
+  void testSaveCoalesces() throws IOException {
+    SavePersister persister = new SavePersister(dir.resolve("blackjack.txt"), errors::add);
+
+    for (int money = 0; money < 10000; money++) {
+      persister.save("1|" + money + "|500|1|1");
+    }
+    persister.flush();
+
+    assertEquals(List.of(), errors);
+    assertEquals("1|9999|500|1|1", Files.readString(dir.resolve("blackjack.txt")));
+    assertTrue(persister.getWrites() < 10000);
+  }
+
+  @Test
+  @DisplayName("save should report errors to the handler")
+  void testSaveReportsErrors() {
+    SavePersister persister = new SavePersister(dir.resolve("missing").resolve("blackjack.txt"), errors::add);
+
+    persister.save("1|10000|500|1|1");
+    persister.flush();
+
+    assertEquals(1, errors.size());
+    assertEquals(0, persister.getWrites());
+  }
+}
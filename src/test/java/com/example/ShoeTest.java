@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 class ShoeTest {
   private Game mockGame;
@@ -42,6 +43,24 @@ class ShoeTest {
     assertTrue(shoe.needToShuffle());
   }
 
+  @Test
+  @DisplayName("needToShuffle should honour a configured penetration")
+  void testNeedToShufflePenetration() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(2);
+    shoe.setPenetration(50);
+    shoe.buildNewShoe(1);
+
+    for (int i = 0; i < 52; i++) {
+      shoe.getNextCard();
+    }
+
+    assertFalse(shoe.needToShuffle());
+    assertEquals(53, shoe.getCut());
+
+    shoe.getNextCard();
+    assertTrue(shoe.needToShuffle());
+  }
+
   @Test
   @DisplayName("shuffle should reorder cards")
   void testShuffle() {
@@ -66,6 +85,45 @@ class ShoeTest {
     assertNotEquals(originalOrder, newOrder);
   }
 
+  @Test
+  @DisplayName("getNextCard should return null once the cursor reaches the end of the shoe")
+  void testGetNextCardExhausted() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(1);
+    shoe.buildNewShoe(1);
+
+    for (int i = 0; i < 52; i++) {
+      assertNotNull(shoe.getNextCard());
+    }
+
+    assertNull(shoe.getNextCard());
+    assertTrue(shoe.needToShuffle());
+  }
+
+  @Test
+  @DisplayName("shoes with the same seed should deal the same order")
+  void testSeededShuffleIsReproducible() {
+    Shoe shoe1 = new Shoe(mockGame, 42L);
+    Shoe shoe2 = new Shoe(mockGame, 42L);
+    Shoe shoe3 = new Shoe(mockGame, 43L);
+    Mockito.when(mockGame.getNumDecks()).thenReturn(8);
+
+    shoe1.buildNewShoe(1);
+    shoe2.buildNewShoe(1);
+    shoe3.buildNewShoe(1);
+
+    ArrayList<Card> order1 = new ArrayList<>();
+    ArrayList<Card> order2 = new ArrayList<>();
+    ArrayList<Card> order3 = new ArrayList<>();
+    for (Card card; (card = shoe1.getNextCard()) != null;) {
+      order1.add(card);
+      order2.add(shoe2.getNextCard());
+      order3.add(shoe3.getNextCard());
+    }
+
+    assertEquals(order1, order2);
+    assertNotEquals(order1, order3);
+  }
+
   @Test
   @DisplayName("getNextCard should return null for empty shoe")
   void testGetNextCardEmpty() {
@@ -139,4 +197,145 @@ class ShoeTest {
         String.format("Shoe with %d deck(s) should contain %d cards",
             numDecks, expectedCards));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("getRemainingRanks should count the undealt cards by rank")
+  void testGetRemainingRanks() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(2);
+    shoe.buildNewShoe(1);
+
+    assertArrayEquals(new int[]{8, 8, 8, 8, 8, 8, 8, 8, 8, 32}, shoe.getRemainingRanks());
+
+    Card card = shoe.getNextCard();
+    int[] ranks = shoe.getRemainingRanks();
+
+    assertEquals(card.isTen() ? 31 : 7, ranks[card.rank()]);
+    assertEquals(103, Arrays.stream(ranks).sum());
+  }
+
+  @Test
+  @DisplayName("getNextCard should keep a Hi-Lo running count that ends at zero")
+  void testRunningCount() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(1);
+    shoe.buildNewShoe(1);
+
+    int count = 0;
+    for (Card card; (card = shoe.getNextCard()) != null;) {
+      if (card.rank() >= 1 && card.rank() <= 5) {
+        count++;
+      } else if (card.rank() == 0 || card.rank() == 9) {
+        count--;
+      }
+
+      assertEquals(count, shoe.getRunningCount());
+    }
+
+    assertEquals(0, shoe.getRunningCount());
+    assertEquals(0, shoe.getRemainingCards());
+  }
+
+  @Test
+  @DisplayName("getTrueCount should divide the running count by the decks remaining")
+  void testTrueCount() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(2);
+    shoe.buildNewShoe(1);
+
+    shoe.revealCard(new Card(1, 0));
+    shoe.revealCard(new Card(2, 0));
+
+    assertEquals(2, shoe.getRunningCount());
+    assertEquals(102, shoe.getRemainingCards());
+    assertEquals(2 * 52 / 102.0, shoe.getTrueCount(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("getTrueCount should count decks by the size of a custom composition")
+  void testTrueCountCustom() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(2);
+    Mockito.when(mockGame.getComposition()).thenReturn(Composition.parse("-5"));
+    shoe.buildNewShoe(Composition.CUSTOM);
+
+    shoe.revealCard(new Card(1, 0));
+    shoe.revealCard(new Card(2, 0));
+
+    assertEquals(94, shoe.getRemainingCards());
+    assertEquals(2 * 48 / 94.0, shoe.getTrueCount(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("hideCard should leave a dealt card uncounted until it is revealed")
+  void testHideCard() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(1);
+    shoe.buildNewShoe(1);
+
+    Card card = shoe.getNextCard();
+    shoe.hideCard(card);
+
+    assertEquals(0, shoe.getRunningCount());
+    assertEquals(52, shoe.getRemainingCards());
+    assertArrayEquals(new int[]{4, 4, 4, 4, 4, 4, 4, 4, 4, 16}, shoe.getRemainingRanks());
+
+    shoe.revealCard(card);
+
+    assertEquals(51, shoe.getRemainingCards());
+  }
+
+  @Test
+  @DisplayName("buildNewShoe should reset the count")
+  void testBuildNewShoeResetsCount() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(1);
+    shoe.buildNewShoe(1);
+    shoe.revealCard(new Card(1, 0));
+
+    shoe.buildNewShoe(1);
+
+    assertEquals(0, shoe.getRunningCount());
+    assertEquals(52, shoe.getRemainingCards());
+  }
+
+  private static ArrayList<Card> deal(Shoe shoe) {
+    ArrayList<Card> order = new ArrayList<>();
+
+    for (Card card; (card = shoe.getNextCard()) != null;) {
+      order.add(card);
+    }
+
+    return order;
+  }
+
+  @Test
+  @DisplayName("a prepared shoe should deal the same order as one built on demand")
+  void testPreparedShoeMatchesBuiltShoe() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(6);
+    Shoe built = new Shoe(mockGame, 42L);
+    Shoe prepared = new Shoe(mockGame, 42L);
+    prepared.setPreparer(ShoePreparer.shared());
+
+    for (int i = 0; i < 5; i++) {
+      built.buildNewShoe(1);
+      prepared.buildNewShoe(1);
+
+      assertEquals(built.getSeed(), prepared.getSeed());
+      assertArrayEquals(built.getRemainingRanks(), prepared.getRemainingRanks());
+      assertEquals(deal(built), deal(prepared));
+    }
+  }
+
+  @Test
+  @DisplayName("a prepared shoe should be dropped when the deck settings change")
+  void testPreparedShoeDeckTypeChange() {
+    Mockito.when(mockGame.getNumDecks()).thenReturn(2);
+    shoe.setPreparer(new ShoePreparer(Runnable::run));
+
+    shoe.buildNewShoe(1);
+    shoe.buildNewShoe(2);
+
+    assertEquals(104, shoe.getRemainingCards());
+    assertEquals(104, shoe.getRemainingRanks()[0]);
+
+    Mockito.when(mockGame.getNumDecks()).thenReturn(1);
+    shoe.buildNewShoe(2);
+
+    assertEquals(52, deal(shoe).size());
+  }
+}
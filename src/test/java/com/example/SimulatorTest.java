@@ -0,0 +1,131 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SimulatorTest {
+  private Simulator simulator;
+
+  private static class HitToSeventeen implements Decider {
+    @Override
+    public boolean takeInsurance(RoundEngine engine) {
+      return false;
+    }
+
+    @Override
+    public Action getAction(RoundEngine engine, PlayerHand playerHand) {
+      return playerHand.getValue(CountMethod.SOFT) < 17 ? Action.HIT : Action.STAND;
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    simulator = new Simulator(new Rules(6, 1), HitToSeventeen::new);
+  }
+
+  private SimulationStats run(long rounds, long seed, int parallelism) {
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return simulator.run(rounds, seed, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("run should play every requested round")
+  void testRunPlaysAllRounds() {
+    SimulationStats stats = run(25000, 1L, 2);
+
+    assertEquals(25000, stats.getRounds());
+    assertEquals(25000L * 500, stats.getWagered());
+  }
+
+  @Test
+  @DisplayName("run should give identical results for a seed whatever the thread count")
+  void testRunIsDeterministic() {
+    SimulationStats single = run(45000, 7L, 1);
+    SimulationStats parallel = run(45000, 7L, 4);
+
+    assertEquals(single.getRounds(), parallel.getRounds());
+    assertEquals(single.getNet(), parallel.getNet());
+    assertEquals(single.getNetSquared(), parallel.getNetSquared());
+  }
+
+  @Test
+  @DisplayName("run should give different results for different seeds")
+  void testRunDependsOnSeed() {
+    assertNotEquals(run(20000, 1L, 2).getNet(), run(20000, 2L, 2).getNet());
+  }
+
+  @Test
+  @DisplayName("house edge and variance should follow from the merged totals")
+  void testStats() {
+    SimulationStats stats = new SimulationStats();
+    stats.addRound(500, 500);
+    SimulationStats other = new SimulationStats();
+    other.addRound(500, -500);
+    other.addRound(500, -1000);
+    stats.merge(other);
+
+    assertEquals(3, stats.getRounds());
+    assertEquals(1000.0 / 1500.0, stats.getHouseEdge(), 1e-12);
+    assertEquals(1500000.0 / 3 - (1000.0 / 3) * (1000.0 / 3), stats.getVariance(), 1e-6);
+  }
+
+  @Test
+  @DisplayName("run should collect a positive betting correlation for every counting system")
+  void testRunBettingCorrelation() {
+    simulator = new Simulator(new Rules(1, 1), BasicStrategy::new, CountSystem.values());
+
+    SimulationStats single = run(200000, 5L, 1);
+    SimulationStats parallel = run(200000, 5L, 4);
+
+    for (int i = 0; i < CountSystem.values().length; i++) {
+      assertTrue(single.getBettingCorrelation(i) > 0.01, CountSystem.values()[i].name());
+      assertEquals(single.getBettingCorrelation(i), parallel.getBettingCorrelation(i));
+    }
+  }
+
+  @Test
+  @DisplayName("a warmed-up table should play rounds without allocating")
+  void testPlayDoesNotAllocate() {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+    simulator = new Simulator(new Rules(6, 1), BasicStrategy::new, CountSystem.values());
+    Simulator.Table table = simulator.newTable(new SplittableRandom(1L));
+    Shoe shoe = table.getEngine().getShoe();
+    long warmUp = 0;
+
+    // Reshuffling every round makes the once-a-shoe code as hot as the rest of a round, and the warm-up
+    // lasts until a round has split into every pooled hand, so nothing is first compiled or taken while measuring.
+    shoe.setPenetration(1);
+
+    while (warmUp < 50000 || table.getEngine().getPlayerHands().size() < RoundEngine.MAX_PLAYER_HANDS) {
+      table.play(1);
+      warmUp++;
+    }
+
+    shoe.setPenetration(0);
+
+    for (int window = 0; window < 3; window++) {
+      long before = threads.getCurrentThreadAllocatedBytes();
+      table.play(100000);
+
+      assertEquals(0, threads.getCurrentThreadAllocatedBytes() - before, "window " + window);
+    }
+
+    assertEquals(warmUp + 300000, table.getStats().getRounds());
+  }
+}
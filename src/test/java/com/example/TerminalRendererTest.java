@@ -0,0 +1,79 @@
+package com.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalRendererTest {
+  private ByteArrayOutputStream outputStream;
+  private TerminalRenderer screen;
+
+  @BeforeEach
+  void setUp() {
+    outputStream = new ByteArrayOutputStream();
+    screen = new TerminalRenderer(new PrintStream(outputStream));
+  }
+
+  private String render(String frame) {
+    outputStream.reset();
+    screen.render(frame);
+    return outputStream.toString();
+  }
+
+  @Test
+  @DisplayName("render should clear and draw the first frame in full")
+  void testRenderFirstFrame() {
+    assertEquals("\033[H\033[2J\n Dealer:\n A♠ ??  ⇒  11\n", render("\n Dealer:\n A♠ ??  ⇒  11\n"));
+  }
+
+  @Test
+  @DisplayName("render should only move to the prompt line when nothing changed")
+  void testRenderUnchanged() {
+    render("\n Dealer:\n A♠ ??  ⇒  11\n");
+
+    assertEquals("\033[4H\033[J", render("\n Dealer:\n A♠ ??  ⇒  11\n"));
+  }
+
+  @Test
+  @DisplayName("render should rewrite only the changed lines")
+  void testRenderChangedLine() {
+    render("\n Dealer:\n A♠ ??  ⇒  11\n\n Player $100.00:\n 2♠ 3♠  ⇒  5 $5.00 ⇐ \n\n");
+
+    String output = render("\n Dealer:\n A♠ ??  ⇒  11\n\n Player $100.00:\n 2♠ 3♠ 4♠  ⇒  9 $5.00 ⇐ \n\n");
+
+    assertEquals("\033[6H 2♠ 3♠ 4♠  ⇒  9 $5.00 ⇐ \033[K\033[8H\033[J", output);
+  }
+
+  @Test
+  @DisplayName("render should draw new lines and clear below a shorter frame")
+  void testRenderFrameSize() {
+    render("\n A\n");
+
+    assertEquals("\033[3H B\033[K\033[4H\033[J", render("\n A\n B\n"));
+    assertEquals("\033[2H\033[J", render("\n"));
+  }
+
+  @Test
+  @DisplayName("reset should force the next frame to be drawn in full")
+  void testReset() {
+    render("\n A\n");
+    screen.reset();
+
+    assertEquals("\033[H\033[2J\n A\n", render("\n A\n"));
+  }
+
+  @Test
+  @DisplayName("render should always redraw in full when diffing is off")
+  void testRenderWithoutDiff() {
+    screen = new TerminalRenderer(new PrintStream(outputStream), false);
+    render("\n A\n");
+
+    assertFalse(screen.isDiff());
+    assertEquals("\033[H\033[2J\n A\n", render("\n A\n"));
+  }
+}